@@ -0,0 +1,54 @@
+package br.com.nicolas.apilugaresmvc.benchmarks;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.nicolas.apilugaresmvc.api.dto.PlaceResponseDTO;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JacksonSerializationBenchmark {
+
+  @Param({ "1", "100", "10000" })
+  private int size;
+
+  private ObjectMapper objectMapper;
+  private List<PlaceResponseDTO> places;
+
+  @Setup
+  public void setUp() {
+    objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    places = new ArrayList<>(size);
+    LocalDateTime now = LocalDateTime.now();
+    for (int i = 0; i < size; i++) {
+      places.add(new PlaceResponseDTO("Place " + i, "place-" + i, "Mogi Mirim", "São Paulo", now, now));
+    }
+  }
+
+  @Benchmark
+  public byte[] serializeList() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(places);
+  }
+}
@@ -0,0 +1,49 @@
+package br.com.nicolas.apilugaresmvc.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PasswordEncoderBenchmark {
+
+  private static final String PASSWORD = "benchmark-password";
+
+  @Param({ "10" })
+  private int cost;
+
+  private BCryptPasswordEncoder encoder;
+  private String encodedPassword;
+
+  @Setup
+  public void setUp() {
+    encoder = new BCryptPasswordEncoder(cost);
+    encodedPassword = encoder.encode(PASSWORD);
+  }
+
+  @Benchmark
+  public String encode() {
+    return encoder.encode(PASSWORD);
+  }
+
+  @Benchmark
+  public boolean matches() {
+    return encoder.matches(PASSWORD, encodedPassword);
+  }
+}
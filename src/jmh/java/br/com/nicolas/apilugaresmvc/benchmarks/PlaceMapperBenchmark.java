@@ -0,0 +1,43 @@
+package br.com.nicolas.apilugaresmvc.benchmarks;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.nicolas.apilugaresmvc.api.dto.PlaceResponseDTO;
+import br.com.nicolas.apilugaresmvc.domain.entities.PlaceModel;
+import br.com.nicolas.apilugaresmvc.web.maps.PlaceMapper;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlaceMapperBenchmark {
+
+  private PlaceModel place;
+
+  @Setup
+  public void setUp() {
+    LocalDateTime now = LocalDateTime.now();
+    place = new PlaceModel(UUID.randomUUID(), "Av Padre Jaime", "av-padre-jaime", "Mogi Mirim", "São Paulo",
+        now, now);
+  }
+
+  @Benchmark
+  public PlaceResponseDTO fromPlaceToResponse() {
+    return PlaceMapper.fromPlaceToResponse(place);
+  }
+}
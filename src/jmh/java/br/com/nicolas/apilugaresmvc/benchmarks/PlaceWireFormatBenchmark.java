@@ -0,0 +1,92 @@
+package br.com.nicolas.apilugaresmvc.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import br.com.nicolas.apilugaresmvc.api.dto.PlaceResponseDTO;
+import br.com.nicolas.apilugaresmvc.web.converters.PlaceProtobufCodec;
+
+/**
+ * Serialization CPU per 10k places for each representation served by the list endpoints, with and without gzip.
+ * Bytes on the wire are printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlaceWireFormatBenchmark {
+
+  private static final int SIZE = 10_000;
+
+  @Param({ "json", "cbor", "smile", "protobuf" })
+  private String format;
+
+  private ObjectMapper objectMapper;
+  private List<PlaceResponseDTO> places;
+
+  @Setup
+  public void setUp() throws IOException {
+    objectMapper = switch (format) {
+      case "cbor" -> Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()).build();
+      case "smile" -> Jackson2ObjectMapperBuilder.json().factory(new SmileFactory()).build();
+      default -> Jackson2ObjectMapperBuilder.json().build();
+    };
+    places = new ArrayList<>(SIZE);
+    LocalDateTime now = LocalDateTime.now();
+    for (int i = 0; i < SIZE; i++) {
+      places.add(new PlaceResponseDTO("Place " + i, "place-" + i, "Mogi Mirim", "São Paulo", now.minusMinutes(i), now,
+          -22.43 + i * 1e-5, -46.95 - i * 1e-5));
+    }
+    System.out.printf("%n%s: %d bytes, %d bytes gzipped for %d places%n",
+        format, serialize().length, serializeGzipped().length, SIZE);
+  }
+
+  @Benchmark
+  public byte[] serialize() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(1 << 20);
+    write(out);
+    return out.toByteArray();
+  }
+
+  @Benchmark
+  public byte[] serializeGzipped() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(1 << 18);
+    try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+      write(gzip);
+    }
+    return out.toByteArray();
+  }
+
+  private void write(OutputStream out) throws IOException {
+    if ("protobuf".equals(format)) {
+      PlaceProtobufCodec.writePlaces(places, null, out);
+    } else {
+      objectMapper.writeValue(out, places);
+    }
+  }
+}
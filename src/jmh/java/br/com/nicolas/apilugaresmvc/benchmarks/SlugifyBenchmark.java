@@ -0,0 +1,41 @@
+package br.com.nicolas.apilugaresmvc.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.slugify.Slugify;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SlugifyBenchmark {
+
+  @Param({ "Av Padre Jaime", "Praça da Sé - Catedral Metropolitana de São Paulo" })
+  private String name;
+
+  private Slugify slg;
+
+  @Setup
+  public void setUp() {
+    slg = Slugify.builder().build();
+  }
+
+  @Benchmark
+  public String slugify() {
+    return slg.slugify(name);
+  }
+}
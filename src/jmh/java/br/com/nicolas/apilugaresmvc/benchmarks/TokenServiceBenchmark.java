@@ -0,0 +1,70 @@
+package br.com.nicolas.apilugaresmvc.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+
+import br.com.nicolas.apilugaresmvc.domain.entities.UserModel;
+import br.com.nicolas.apilugaresmvc.domain.entities.enums.UserRole;
+import br.com.nicolas.apilugaresmvc.security.TokenService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenServiceBenchmark {
+
+  private static final String SECRET = "benchmark-secret";
+
+  private TokenService cachedService;
+  private TokenService uncachedService;
+  private UserModel user;
+  private String token;
+
+  @Setup
+  public void setUp() {
+    cachedService = new TokenService(SECRET, 10_000, new SimpleMeterRegistry());
+    uncachedService = new TokenService(SECRET, 0, new SimpleMeterRegistry());
+    user = new UserModel("benchmark", "password", UserRole.USER);
+    token = cachedService.generateToken(user);
+  }
+
+  @Benchmark
+  public String generateToken() {
+    return cachedService.generateToken(user);
+  }
+
+  @Benchmark
+  public String validateTokenWithVerifierPerCall() {
+    return JWT.require(Algorithm.HMAC256(SECRET))
+        .withIssuer("places-api")
+        .build()
+        .verify(token)
+        .getSubject();
+  }
+
+  @Benchmark
+  public String validateTokenWithoutCache() {
+    return uncachedService.validateToken(token);
+  }
+
+  @Benchmark
+  public String validateTokenWithCache() {
+    return cachedService.validateToken(token);
+  }
+}
@@ -0,0 +1,61 @@
+package br.com.nicolas.apilugaresmvc.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Load test settings, read from {@code loadtest.*} system properties so runs can be reproduced from the command line.
+ */
+public record LoadTestConfig(
+    double rate,
+    Duration duration,
+    Duration warmup,
+    Map<String, Integer> mix,
+    int seedPlaces,
+    int maxInFlight,
+    long seed,
+    Path report) {
+
+  public LoadTestConfig {
+    if (rate <= 0 || maxInFlight <= 0) {
+      throw new IllegalArgumentException("loadtest.rate and loadtest.max-in-flight must be positive");
+    }
+    if (seedPlaces < 2) {
+      throw new IllegalArgumentException("loadtest.seed-places must be at least 2");
+    }
+  }
+
+  static final String DEFAULT_MIX = "get=60,slug=10,list=10,nearby=5,create=10,edit=5";
+
+  public static LoadTestConfig fromSystemProperties() {
+    return new LoadTestConfig(
+        Double.parseDouble(System.getProperty("loadtest.rate", "200")),
+        Duration.parse(System.getProperty("loadtest.duration", "PT60S")),
+        Duration.parse(System.getProperty("loadtest.warmup", "PT15S")),
+        parseMix(System.getProperty("loadtest.mix", DEFAULT_MIX)),
+        Integer.parseInt(System.getProperty("loadtest.seed-places", "2000")),
+        Integer.parseInt(System.getProperty("loadtest.max-in-flight", "1000")),
+        Long.parseLong(System.getProperty("loadtest.seed", "42")),
+        Path.of(System.getProperty("loadtest.report", "target/loadtest-report.json")));
+  }
+
+  static Map<String, Integer> parseMix(String mix) {
+    Map<String, Integer> weights = new LinkedHashMap<>();
+    for (String entry : mix.split(",")) {
+      String[] parts = entry.trim().split("=");
+      if (parts.length != 2) {
+        throw new IllegalArgumentException("Invalid loadtest.mix entry: " + entry);
+      }
+      int weight = Integer.parseInt(parts[1].trim());
+      if (weight > 0) {
+        weights.put(parts[0].trim(), weight);
+      }
+    }
+    if (weights.isEmpty()) {
+      throw new IllegalArgumentException("loadtest.mix has no operation with a positive weight");
+    }
+    return weights;
+  }
+}
@@ -0,0 +1,45 @@
+package br.com.nicolas.apilugaresmvc.loadtest;
+
+import java.util.Map;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Machine-readable result of a run. Latencies are in milliseconds and measured from each request's scheduled
+ * arrival, so time spent queued behind a slow server counts against it.
+ */
+public record LoadTestReport(
+    String startedAt,
+    double targetRate,
+    double achievedThroughput,
+    long durationSeconds,
+    long warmupSeconds,
+    Map<String, Integer> mix,
+    Map<String, EndpointReport> endpoints) {
+
+  public record EndpointReport(
+      long requests,
+      long errors,
+      long dropped,
+      double throughput,
+      double meanMs,
+      double p50Ms,
+      double p99Ms,
+      double p999Ms,
+      double maxMs) {
+
+    static EndpointReport of(Histogram latenciesMicros, long errors, long dropped, double seconds) {
+      long requests = latenciesMicros.getTotalCount();
+      return new EndpointReport(
+          requests,
+          errors,
+          dropped,
+          requests / seconds,
+          latenciesMicros.getMean() / 1000.0,
+          latenciesMicros.getValueAtPercentile(50) / 1000.0,
+          latenciesMicros.getValueAtPercentile(99) / 1000.0,
+          latenciesMicros.getValueAtPercentile(99.9) / 1000.0,
+          latenciesMicros.getMaxValue() / 1000.0);
+    }
+  }
+}
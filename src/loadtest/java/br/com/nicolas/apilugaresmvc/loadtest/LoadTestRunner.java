@@ -0,0 +1,346 @@
+package br.com.nicolas.apilugaresmvc.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.nicolas.apilugaresmvc.ApilugaresmvcApplication;
+import br.com.nicolas.apilugaresmvc.api.dto.AuthDTO;
+import br.com.nicolas.apilugaresmvc.api.dto.PlaceRequestDTO;
+import br.com.nicolas.apilugaresmvc.domain.entities.PlaceModel;
+import br.com.nicolas.apilugaresmvc.domain.entities.UserModel;
+import br.com.nicolas.apilugaresmvc.domain.entities.enums.UserRole;
+import br.com.nicolas.apilugaresmvc.domain.repositories.PlaceRepository;
+import br.com.nicolas.apilugaresmvc.domain.repositories.UserRepository;
+
+/**
+ * Boots the application with the {@code loadtest} profile (H2 in PostgreSQL mode), seeds places, logs in through
+ * /users/login and drives an open-model mix of reads and writes: arrivals follow a Poisson process at the target
+ * rate whether or not earlier requests have completed, so a slow server builds up latency instead of throttling the
+ * load. Per-endpoint HdrHistogram percentiles are written as JSON to {@code loadtest.report}.
+ */
+public class LoadTestRunner {
+
+  private static final Logger log = LoggerFactory.getLogger(LoadTestRunner.class);
+
+  private static final String USERNAME = "loadtest";
+  private static final String PASSWORD = "loadtest";
+  private static final int SEED_BATCH_SIZE = 100;
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+  private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(60);
+  private static final String[][] CITIES = {
+      { "Mogi Mirim", "São Paulo", "-22.43", "-46.95" },
+      { "Campinas", "São Paulo", "-22.90", "-47.06" },
+      { "Belo Horizonte", "Minas Gerais", "-19.92", "-43.94" },
+      { "Curitiba", "Paraná", "-25.43", "-49.27" }
+  };
+
+  enum Operation {
+    GET("get", "GET /places/{id}"),
+    SLUG("slug", "GET /places/slug/{slug}"),
+    LIST("list", "GET /places/cursor"),
+    NEARBY("nearby", "GET /places/nearby"),
+    CREATE("create", "POST /places"),
+    EDIT("edit", "PUT /places/{id}");
+
+    private final String key;
+    private final String endpoint;
+
+    Operation(String key, String endpoint) {
+      this.key = key;
+      this.endpoint = endpoint;
+    }
+
+    static Operation fromKey(String key) {
+      for (Operation operation : values()) {
+        if (operation.key.equals(key)) {
+          return operation;
+        }
+      }
+      throw new IllegalArgumentException("Unknown loadtest.mix operation: " + key);
+    }
+  }
+
+  private static final class EndpointStats {
+    private final Histogram latenciesMicros = new ConcurrentHistogram(3);
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+  }
+
+  private final LoadTestConfig config;
+  private final ConfigurableApplicationContext context;
+  private final ObjectMapper objectMapper;
+  private final HttpClient httpClient;
+  private final Map<Operation, EndpointStats> stats = new LinkedHashMap<>();
+  private final AtomicLong writeCounter = new AtomicLong();
+  private String baseUrl;
+  private String token;
+  private List<PlaceModel> places;
+  private List<PlaceModel> slugTargets;
+  private List<PlaceModel> editTargets;
+
+  public LoadTestRunner(LoadTestConfig config, ConfigurableApplicationContext context) {
+    this.config = config;
+    this.context = context;
+    this.objectMapper = context.getBean(ObjectMapper.class);
+    this.httpClient = HttpClient.newBuilder()
+        .followRedirects(HttpClient.Redirect.NEVER)
+        .connectTimeout(REQUEST_TIMEOUT)
+        .build();
+    for (String key : config.mix().keySet()) {
+      stats.put(Operation.fromKey(key), new EndpointStats());
+    }
+  }
+
+  public static void main(String[] args) throws Exception {
+    LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+    SpringApplication application = new SpringApplication(ApilugaresmvcApplication.class);
+    application.setAdditionalProfiles("loadtest");
+    ConfigurableApplicationContext context = application.run(args);
+    int exitCode;
+    try {
+      LoadTestReport report = new LoadTestRunner(config, context).run();
+      Files.createDirectories(config.report().toAbsolutePath().getParent());
+      context.getBean(ObjectMapper.class).writerWithDefaultPrettyPrinter()
+          .writeValue(config.report().toFile(), report);
+      log.info("Load test report written to {}", config.report().toAbsolutePath());
+    } finally {
+      exitCode = SpringApplication.exit(context);
+    }
+    System.exit(exitCode);
+  }
+
+  public LoadTestReport run() throws IOException, InterruptedException {
+    baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+    createUser();
+    token = login();
+    seedPlaces();
+    places = new ArrayList<>(context.getBean(PlaceRepository.class).findAll());
+    places.sort(Comparator.comparing(PlaceModel::getId));
+    // Renaming a place changes its slug, so slug lookups and edits draw from disjoint halves of the seed.
+    slugTargets = new ArrayList<>();
+    editTargets = new ArrayList<>();
+    for (int i = 0; i < places.size(); i++) {
+      (i % 2 == 0 ? slugTargets : editTargets).add(places.get(i));
+    }
+    log.info("Seeded {} places, driving {} req/s for {} after {} of warmup", places.size(), config.rate(),
+        config.duration(), config.warmup());
+
+    Instant startedAt = Instant.now();
+    drive();
+    LoadTestReport report = report(startedAt);
+    report.endpoints().forEach((endpoint, result) -> log.info(
+        "{}: {} requests ({} errors, {} dropped), {} req/s, p50 {} ms, p99 {} ms, p99.9 {} ms",
+        endpoint, result.requests(), result.errors(), result.dropped(), String.format("%.1f", result.throughput()),
+        result.p50Ms(), result.p99Ms(), result.p999Ms()));
+    return report;
+  }
+
+  private void createUser() {
+    UserRepository userRepository = context.getBean(UserRepository.class);
+    if (userRepository.findByUsername(USERNAME).isEmpty()) {
+      String hash = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+      userRepository.save(new UserModel(USERNAME, hash, UserRole.ADMIN));
+    }
+  }
+
+  private String login() throws IOException, InterruptedException {
+    HttpResponse<String> response = httpClient.send(
+        json(HttpRequest.newBuilder(uri("/users/login")), new AuthDTO(USERNAME, PASSWORD)).build(),
+        HttpResponse.BodyHandlers.ofString());
+    int marker = response.body().indexOf("Token: ");
+    if (response.statusCode() != 200 || marker < 0) {
+      throw new IllegalStateException("Login failed with " + response.statusCode() + ": " + response.body());
+    }
+    return response.body().substring(marker + "Token: ".length()).trim();
+  }
+
+  private void seedPlaces() throws IOException, InterruptedException {
+    for (int from = 0; from < config.seedPlaces(); from += SEED_BATCH_SIZE) {
+      List<PlaceRequestDTO> batch = new ArrayList<>(SEED_BATCH_SIZE);
+      for (int i = from; i < Math.min(from + SEED_BATCH_SIZE, config.seedPlaces()); i++) {
+        batch.add(place("Load Place " + i, i));
+      }
+      HttpResponse<String> response = httpClient.send(
+          authorized(json(HttpRequest.newBuilder(uri("/places/batch")), batch)).build(),
+          HttpResponse.BodyHandlers.ofString());
+      if (response.statusCode() >= 400) {
+        throw new IllegalStateException("Seeding failed with " + response.statusCode() + ": " + response.body());
+      }
+    }
+  }
+
+  private void drive() throws InterruptedException {
+    Operation[] operations = new Operation[config.mix().size()];
+    int[] cumulativeWeights = new int[operations.length];
+    int totalWeight = 0;
+    int index = 0;
+    for (Map.Entry<String, Integer> entry : config.mix().entrySet()) {
+      totalWeight += entry.getValue();
+      operations[index] = Operation.fromKey(entry.getKey());
+      cumulativeWeights[index++] = totalWeight;
+    }
+
+    // The schedule, the operation and its target place all come from one seeded generator, so two runs with the
+    // same settings send the same sequence of requests at the same offsets.
+    Random random = new Random(config.seed());
+    Semaphore inFlight = new Semaphore(config.maxInFlight());
+    long start = System.nanoTime();
+    long measureFrom = start + config.warmup().toNanos();
+    long end = measureFrom + config.duration().toNanos();
+    long next = start;
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      while (next < end) {
+        long now;
+        while ((now = System.nanoTime()) < next) {
+          LockSupport.parkNanos(next - now);
+        }
+
+        int pick = random.nextInt(totalWeight);
+        int slot = 0;
+        while (cumulativeWeights[slot] <= pick) {
+          slot++;
+        }
+        Operation operation = operations[slot];
+        List<PlaceModel> targets = switch (operation) {
+          case SLUG -> slugTargets;
+          case EDIT -> editTargets;
+          default -> places;
+        };
+        PlaceModel target = targets.get(random.nextInt(targets.size()));
+        long scheduledAt = next;
+        boolean measured = scheduledAt >= measureFrom;
+
+        if (inFlight.tryAcquire()) {
+          executor.execute(() -> {
+            try {
+              execute(operation, target, scheduledAt, measured);
+            } finally {
+              inFlight.release();
+            }
+          });
+        } else if (measured) {
+          stats.get(operation).dropped.increment();
+        }
+
+        next += (long) (-Math.log(1 - random.nextDouble()) / config.rate() * TimeUnit.SECONDS.toNanos(1));
+      }
+      executor.shutdown();
+      if (!executor.awaitTermination(DRAIN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+        log.warn("Requests still in flight after {}, abandoning them", DRAIN_TIMEOUT);
+        executor.shutdownNow();
+      }
+    }
+  }
+
+  private void execute(Operation operation, PlaceModel target, long scheduledAt, boolean measured) {
+    boolean failed;
+    try {
+      HttpResponse<Void> response = httpClient.send(request(operation, target),
+          HttpResponse.BodyHandlers.discarding());
+      failed = response.statusCode() >= 400;
+    } catch (IOException e) {
+      failed = true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return;
+    }
+    if (measured) {
+      EndpointStats endpoint = stats.get(operation);
+      endpoint.latenciesMicros.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - scheduledAt));
+      if (failed) {
+        endpoint.errors.increment();
+      }
+    }
+  }
+
+  private HttpRequest request(Operation operation, PlaceModel target) {
+    long write = writeCounter.incrementAndGet();
+    HttpRequest.Builder builder = switch (operation) {
+      case GET -> HttpRequest.newBuilder(uri("/places/" + target.getId())).GET();
+      case SLUG -> HttpRequest.newBuilder(uri("/places/slug/" + target.getSlug())).GET();
+      case LIST -> HttpRequest.newBuilder(uri("/places/cursor?size=20")).GET();
+      case NEARBY -> HttpRequest.newBuilder(uri("/places/nearby?lat=" + target.getLatitude()
+          + "&lon=" + target.getLongitude() + "&radius=2000")).GET();
+      case CREATE -> json(HttpRequest.newBuilder(uri("/places")), place("Load Place new " + write, write));
+      case EDIT -> json(HttpRequest.newBuilder(uri("/places/" + target.getId())),
+          new PlaceRequestDTO("Load Place edit " + write, target.getState(), target.getCity(),
+              target.getLatitude(), target.getLongitude()), "PUT");
+    };
+    return authorized(builder).timeout(REQUEST_TIMEOUT).build();
+  }
+
+  private LoadTestReport report(Instant startedAt) {
+    double seconds = config.duration().toMillis() / 1000.0;
+    Map<String, LoadTestReport.EndpointReport> endpoints = new LinkedHashMap<>();
+    long total = 0;
+    for (Map.Entry<Operation, EndpointStats> entry : stats.entrySet()) {
+      EndpointStats endpoint = entry.getValue();
+      total += endpoint.latenciesMicros.getTotalCount();
+      endpoints.put(entry.getKey().endpoint, LoadTestReport.EndpointReport.of(
+          endpoint.latenciesMicros, endpoint.errors.sum(), endpoint.dropped.sum(), seconds));
+    }
+    return new LoadTestReport(startedAt.toString(), config.rate(), total / seconds,
+        config.duration().toSeconds(), config.warmup().toSeconds(), config.mix(), endpoints);
+  }
+
+  private PlaceRequestDTO place(String name, long index) {
+    String[] city = CITIES[(int) (index % CITIES.length)];
+    double offset = (index % 100) * 0.001;
+    return new PlaceRequestDTO(name, city[1], city[0],
+        Double.parseDouble(city[2]) + offset, Double.parseDouble(city[3]) - offset);
+  }
+
+  private URI uri(String path) {
+    return URI.create(baseUrl + path);
+  }
+
+  private HttpRequest.Builder authorized(HttpRequest.Builder builder) {
+    return token == null ? builder : builder.header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+  }
+
+  private HttpRequest.Builder json(HttpRequest.Builder builder, Object body) {
+    return json(builder, body, "POST");
+  }
+
+  private HttpRequest.Builder json(HttpRequest.Builder builder, Object body, String method) {
+    try {
+      return builder.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+          .method(method, HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException(e);
+    }
+  }
+}
@@ -0,0 +1,22 @@
+package br.com.nicolas.apilugaresmvc.api.dto;
+
+public record PlaceBatchItemDTO(int index, Status status, PlaceResponseDTO place, String message) {
+
+  public enum Status {
+    CREATED,
+    CONFLICT,
+    INVALID
+  }
+
+  public static PlaceBatchItemDTO created(int index, PlaceResponseDTO place) {
+    return new PlaceBatchItemDTO(index, Status.CREATED, place, null);
+  }
+
+  public static PlaceBatchItemDTO conflict(int index, String message) {
+    return new PlaceBatchItemDTO(index, Status.CONFLICT, null, message);
+  }
+
+  public static PlaceBatchItemDTO invalid(int index, String message) {
+    return new PlaceBatchItemDTO(index, Status.INVALID, null, message);
+  }
+}
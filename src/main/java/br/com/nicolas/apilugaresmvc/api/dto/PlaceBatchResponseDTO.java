@@ -0,0 +1,7 @@
+package br.com.nicolas.apilugaresmvc.api.dto;
+
+import java.util.List;
+
+public record PlaceBatchResponseDTO(int created, int conflicts, int invalid, List<PlaceBatchItemDTO> items) {
+
+}
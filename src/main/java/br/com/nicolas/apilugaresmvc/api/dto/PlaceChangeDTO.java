@@ -0,0 +1,9 @@
+package br.com.nicolas.apilugaresmvc.api.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record PlaceChangeDTO(long sequence, String type, UUID id, PlaceResponseDTO place,
+    LocalDateTime occurredAt) {
+
+}
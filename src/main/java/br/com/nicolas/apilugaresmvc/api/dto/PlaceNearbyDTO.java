@@ -0,0 +1,8 @@
+package br.com.nicolas.apilugaresmvc.api.dto;
+
+import java.util.UUID;
+
+public record PlaceNearbyDTO(UUID id, String name, String slug, String city, String state,
+    double latitude, double longitude, double distanceMeters) {
+
+}
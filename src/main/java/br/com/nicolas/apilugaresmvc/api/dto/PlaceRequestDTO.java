@@ -1,7 +1,20 @@
 package br.com.nicolas.apilugaresmvc.api.dto;
 
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 
-public record PlaceRequestDTO(@NotBlank String name, @NotBlank String state, @NotBlank String city) {
+public record PlaceRequestDTO(@NotBlank String name, @NotBlank String state, @NotBlank String city,
+    @DecimalMin("-90") @DecimalMax("90") Double latitude,
+    @DecimalMin("-180") @DecimalMax("180") Double longitude) {
 
+  public PlaceRequestDTO(String name, String state, String city) {
+    this(name, state, city, null, null);
+  }
+
+  @AssertTrue(message = "latitude and longitude must be informed together")
+  public boolean isLocationComplete() {
+    return (latitude == null) == (longitude == null);
+  }
 }
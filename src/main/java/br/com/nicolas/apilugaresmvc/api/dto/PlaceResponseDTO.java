@@ -4,6 +4,11 @@ import java.time.LocalDateTime;
 
 public record PlaceResponseDTO(
     String name, String slug, String city, String state,
-    LocalDateTime createdAt, LocalDateTime updatedAt) {
+    LocalDateTime createdAt, LocalDateTime updatedAt,
+    Double latitude, Double longitude) {
 
+  public PlaceResponseDTO(String name, String slug, String city, String state,
+      LocalDateTime createdAt, LocalDateTime updatedAt) {
+    this(name, slug, city, state, createdAt, updatedAt, null, null);
+  }
 }
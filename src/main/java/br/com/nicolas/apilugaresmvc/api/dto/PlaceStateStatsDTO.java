@@ -0,0 +1,7 @@
+package br.com.nicolas.apilugaresmvc.api.dto;
+
+import java.util.Map;
+
+public record PlaceStateStatsDTO(String state, long total, Map<String, Long> cities) {
+
+}
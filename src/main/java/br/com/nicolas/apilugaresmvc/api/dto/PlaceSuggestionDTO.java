@@ -0,0 +1,7 @@
+package br.com.nicolas.apilugaresmvc.api.dto;
+
+import java.util.UUID;
+
+public record PlaceSuggestionDTO(UUID id, String name, String slug, String city, String state) {
+
+}
@@ -0,0 +1,15 @@
+package br.com.nicolas.apilugaresmvc.api.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record PlaceSyncItemDTO(UUID id, boolean deleted, PlaceResponseDTO place, LocalDateTime changedAt) {
+
+  public static PlaceSyncItemDTO changed(UUID id, PlaceResponseDTO place, LocalDateTime changedAt) {
+    return new PlaceSyncItemDTO(id, false, place, changedAt);
+  }
+
+  public static PlaceSyncItemDTO deleted(UUID id, LocalDateTime deletedAt) {
+    return new PlaceSyncItemDTO(id, true, null, deletedAt);
+  }
+}
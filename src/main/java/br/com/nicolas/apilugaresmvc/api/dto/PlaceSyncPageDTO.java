@@ -0,0 +1,7 @@
+package br.com.nicolas.apilugaresmvc.api.dto;
+
+import java.util.List;
+
+public record PlaceSyncPageDTO(List<PlaceSyncItemDTO> changes, String nextCursor, boolean hasMore) {
+
+}
@@ -0,0 +1,92 @@
+package br.com.nicolas.apilugaresmvc.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+public class ConcurrencyLimitedDataSource extends DelegatingDataSource {
+
+  private final Semaphore permits;
+  private final long acquireTimeoutNanos;
+
+  public ConcurrencyLimitedDataSource(DataSource targetDataSource, int maxConcurrentConnections,
+      Duration acquireTimeout) {
+    super(targetDataSource);
+    this.permits = new Semaphore(maxConcurrentConnections, true);
+    this.acquireTimeoutNanos = acquireTimeout.toNanos();
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    acquire();
+    try {
+      return limited(super.getConnection());
+    } catch (SQLException | RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    acquire();
+    try {
+      return limited(super.getConnection(username, password));
+    } catch (SQLException | RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  public int availablePermits() {
+    return permits.availablePermits();
+  }
+
+  public int queuedThreads() {
+    return permits.getQueueLength();
+  }
+
+  private void acquire() throws SQLException {
+    try {
+      if (!permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+        throw new SQLTransientConnectionException("Timed out after "
+            + Duration.ofNanos(acquireTimeoutNanos) + " waiting for a database connection permit");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SQLException("Interrupted while waiting for a database connection", e);
+    }
+  }
+
+  private Connection limited(Connection connection) {
+    AtomicBoolean released = new AtomicBoolean();
+    return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] { Connection.class },
+        (proxy, method, args) -> {
+          if ("close".equals(method.getName()) && method.getParameterCount() == 0) {
+            try {
+              connection.close();
+            } finally {
+              if (released.compareAndSet(false, true)) {
+                permits.release();
+              }
+            }
+            return null;
+          }
+          try {
+            return method.invoke(connection, args);
+          } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+          }
+        });
+  }
+}
@@ -1,18 +1,46 @@
 package br.com.nicolas.apilugaresmvc.config;
 
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import br.com.nicolas.apilugaresmvc.domain.cache.PlaceCache;
+import br.com.nicolas.apilugaresmvc.domain.indexes.PlaceGeoIndex;
+import br.com.nicolas.apilugaresmvc.domain.indexes.PlaceKeyFilter;
+import br.com.nicolas.apilugaresmvc.domain.indexes.PlaceSlugIndex;
+import br.com.nicolas.apilugaresmvc.domain.indexes.PlaceStatsIndex;
+import br.com.nicolas.apilugaresmvc.domain.indexes.PlaceSuggestionIndex;
 import br.com.nicolas.apilugaresmvc.domain.repositories.PlaceRepository;
+import br.com.nicolas.apilugaresmvc.domain.repositories.PlaceTombstoneRepository;
 import br.com.nicolas.apilugaresmvc.domain.services.PlaceService;
+import jakarta.persistence.EntityManager;
 
 @Configuration
 @EnableJpaAuditing
+@EnableScheduling
 public class PlaceConfig {
 
   @Bean
-  PlaceService placeService(PlaceRepository placeRepository) {
-    return new PlaceService(placeRepository);
+  PlaceService placeService(PlaceRepository placeRepository, EntityManager entityManager,
+      ApplicationEventPublisher eventPublisher, PlaceCache placeCache, PlaceSuggestionIndex suggestionIndex,
+      PlaceKeyFilter keyFilter, PlaceSlugIndex slugIndex, PlaceGeoIndex geoIndex, PlaceStatsIndex statsIndex,
+      PlaceTombstoneRepository tombstoneRepository, PlatformTransactionManager transactionManager) {
+    return new PlaceService(placeRepository, entityManager, eventPublisher, placeCache, suggestionIndex, keyFilter,
+        slugIndex, geoIndex, statsIndex, tombstoneRepository, transactionManager);
+  }
+
+  @Bean
+  HibernatePropertiesCustomizer placeBatchingCustomizer(@Value("${api.places.batch-size:50}") int batchSize) {
+    return properties -> {
+      properties.put(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+      properties.put(AvailableSettings.ORDER_INSERTS, true);
+      properties.put(AvailableSettings.ORDER_UPDATES, true);
+    };
   }
 }
@@ -0,0 +1,105 @@
+package br.com.nicolas.apilugaresmvc.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.DatabasePopulatorUtils;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.jdbc.datasource.init.ScriptException;
+import org.springframework.stereotype.Component;
+
+import br.com.nicolas.apilugaresmvc.domain.entities.PlaceModel;
+import br.com.nicolas.apilugaresmvc.domain.utils.TextNormalizer;
+
+@Component
+@Order(0)
+@ConditionalOnProperty(name = "api.places.schema-init.enabled", havingValue = "true", matchIfMissing = true)
+public class PlaceSchemaInitializer implements ApplicationRunner {
+
+  private static final Logger log = LoggerFactory.getLogger(PlaceSchemaInitializer.class);
+  private static final String POSTGRES_SCRIPT = "db/places-postgres.sql";
+  private static final int BACKFILL_PAGE_SIZE = 500;
+
+  private final DataSource dataSource;
+
+  public PlaceSchemaInitializer(DataSource dataSource) {
+    this.dataSource = dataSource;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) throws SQLException {
+    if (!isPostgres()) {
+      log.info("Skipping {} on a non-PostgreSQL database", POSTGRES_SCRIPT);
+      return;
+    }
+    backfillDerivedColumns();
+    ResourceDatabasePopulator populator = new ResourceDatabasePopulator(new ClassPathResource(POSTGRES_SCRIPT));
+    try {
+      DatabasePopulatorUtils.execute(populator, dataSource);
+    } catch (ScriptException e) {
+      // Starting without uk_places_key or uk_places_slug would silently allow duplicates.
+      throw new IllegalStateException("Could not apply " + POSTGRES_SCRIPT + ". If the unique index on place_key "
+          + "failed, merge or delete the places sharing a name, city and state and restart", e);
+    }
+  }
+
+  // The normalized name and key must come from the same TextNormalizer as new inserts; unaccent() folds letters
+  // such as ø, ß or ł differently, which would let uk_places_key miss real duplicates. Rows whose stored values
+  // differ (including any written by an earlier SQL backfill) are rewritten before the unique index is created.
+  // The table is read in pages by id so memory stays bounded however many places there are.
+  private void backfillDerivedColumns() {
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    UUID after = new UUID(0L, 0L);
+    int recomputed = 0;
+    while (true) {
+      List<Object[]> updates = new ArrayList<>();
+      List<UUID> ids = jdbcTemplate.query(
+          "SELECT id_place, place_name, place_city, place_state, place_name_normalized, place_key FROM tb_places "
+              + "WHERE id_place > ? ORDER BY id_place LIMIT ?",
+          (rs, rowNum) -> {
+            UUID id = rs.getObject("id_place", UUID.class);
+            String name = rs.getString("place_name");
+            String normalizedName = TextNormalizer.normalize(name);
+            String key = PlaceModel.key(name, rs.getString("place_city"), rs.getString("place_state"));
+            if (!Objects.equals(normalizedName, rs.getString("place_name_normalized"))
+                || !Objects.equals(key, rs.getString("place_key"))) {
+              updates.add(new Object[] { normalizedName, key, id });
+            }
+            return id;
+          },
+          after, BACKFILL_PAGE_SIZE);
+      if (!updates.isEmpty()) {
+        jdbcTemplate.batchUpdate(
+            "UPDATE tb_places SET place_name_normalized = ?, place_key = ? WHERE id_place = ?", updates);
+        recomputed += updates.size();
+      }
+      if (ids.size() < BACKFILL_PAGE_SIZE) {
+        break;
+      }
+      after = ids.get(ids.size() - 1);
+    }
+    if (recomputed > 0) {
+      log.info("Recomputed the normalized name and key of {} places", recomputed);
+    }
+  }
+
+  private boolean isPostgres() throws SQLException {
+    try (Connection connection = dataSource.getConnection()) {
+      return "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName());
+    }
+  }
+}
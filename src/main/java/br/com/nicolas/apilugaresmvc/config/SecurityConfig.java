@@ -1,21 +1,35 @@
 package br.com.nicolas.apilugaresmvc.config;
 
+import java.time.Duration;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import br.com.nicolas.apilugaresmvc.security.OffloadingPasswordEncoder;
+import br.com.nicolas.apilugaresmvc.security.PasswordHashingExecutor;
+import br.com.nicolas.apilugaresmvc.security.RateLimitFilter;
+import br.com.nicolas.apilugaresmvc.security.RehashingBCryptPasswordEncoder;
 import br.com.nicolas.apilugaresmvc.security.SecurityFilter;
+import br.com.nicolas.apilugaresmvc.security.TimedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
 
 @Configuration
 @EnableWebSecurity
@@ -25,7 +39,13 @@ public class SecurityConfig {
     @Autowired
     private SecurityFilter securityFilter;
 
+    @Autowired
+    private RateLimitFilter rateLimitFilter;
+
     private static final String ADMIN_ROLE = "ADMIN";
+    private static final String METRICS_ROLE = "METRICS";
+    private static final String PROMETHEUS_URL = "/actuator/prometheus";
+    private static final String METRICS_URL = "/actuator/metrics";
     private static final String USERS_URL = "/users";
     private static final String PLACES_URL = "/places";
 
@@ -36,11 +56,46 @@ public class SecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(HttpMethod.POST, USERS_URL + "/login").permitAll()
-                        .requestMatchers(HttpMethod.POST, PLACES_URL, USERS_URL).hasRole(ADMIN_ROLE)
+                        .requestMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+                        .requestMatchers(HttpMethod.POST, PLACES_URL, PLACES_URL + "/batch", USERS_URL)
+                        .hasRole(ADMIN_ROLE)
                         .requestMatchers(HttpMethod.PUT, PLACES_URL, USERS_URL).hasRole(ADMIN_ROLE)
                         .requestMatchers(HttpMethod.DELETE, PLACES_URL, USERS_URL).hasRole(ADMIN_ROLE)
                         .anyRequest().authenticated())
                 .addFilterBefore(securityFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(rateLimitFilter, SecurityFilter.class)
+                .build();
+    }
+
+    // Prometheus scrapes with HTTP Basic as a dedicated METRICS principal rather than a short-lived user token. The
+    // same principal reads /actuator/metrics, which names every route and repository method. Without
+    // api.metrics.scrape.password both endpoints are closed.
+    @Bean
+    @Order(1)
+    SecurityFilterChain metricsFilterChain(HttpSecurity http,
+            @Value("${api.metrics.scrape.username:prometheus}") String username,
+            @Value("${api.metrics.scrape.password:}") String password,
+            PasswordEncoder passwordEncoder) throws Exception {
+        http.securityMatcher(PROMETHEUS_URL, METRICS_URL, METRICS_URL + "/**")
+                .csrf(csrf -> csrf.disable())
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
+        if (password.isBlank()) {
+            return http.authorizeHttpRequests(auth -> auth.anyRequest().denyAll()).build();
+        }
+
+        DaoAuthenticationProvider scraper = new DaoAuthenticationProvider();
+        scraper.setPasswordEncoder(passwordEncoder);
+        scraper.setUserDetailsService(new InMemoryUserDetailsManager(User.withUsername(username)
+                .password(passwordEncoder.encode(password))
+                .roles(METRICS_ROLE)
+                .build()));
+        return http
+                .authorizeHttpRequests(auth -> auth
+                        .requestMatchers(HttpMethod.GET, PROMETHEUS_URL, METRICS_URL, METRICS_URL + "/**")
+                        .hasRole(METRICS_ROLE)
+                        .anyRequest().denyAll())
+                .httpBasic(Customizer.withDefaults())
+                .authenticationManager(new ProviderManager(scraper))
                 .build();
     }
 
@@ -50,9 +105,23 @@ public class SecurityConfig {
         return authenticationConfiguration.getAuthenticationManager();
     }
 
+    @Bean(destroyMethod = "shutdown")
+    PasswordHashingExecutor passwordHashingExecutor(
+            @Value("${api.security.password.threads:0}") int threads,
+            @Value("${api.security.password.queue-capacity:64}") int queueCapacity,
+            @Value("${api.security.password.timeout:5s}") Duration timeout,
+            MeterRegistry meterRegistry) {
+        if (threads <= 0) {
+            threads = Runtime.getRuntime().availableProcessors();
+        }
+        return new PasswordHashingExecutor(threads, queueCapacity, timeout, meterRegistry);
+    }
+
     @Bean
-    PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    PasswordEncoder passwordEncoder(@Value("${api.security.bcrypt.cost:10}") int cost,
+            PasswordHashingExecutor passwordHashingExecutor, MeterRegistry meterRegistry) {
+        PasswordEncoder bcrypt = new TimedPasswordEncoder(new RehashingBCryptPasswordEncoder(cost), meterRegistry);
+        return new OffloadingPasswordEncoder(bcrypt, passwordHashingExecutor);
     }
 
 }
\ No newline at end of file
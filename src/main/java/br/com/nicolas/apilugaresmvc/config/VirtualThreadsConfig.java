@@ -0,0 +1,49 @@
+package br.com.nicolas.apilugaresmvc.config;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadsConfig {
+
+  @Bean
+  static BeanPostProcessor concurrencyLimitedDataSourcePostProcessor(Environment environment) {
+    int permits = environment.getProperty("api.db.max-concurrency", Integer.class,
+        environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10));
+    long poolTimeoutMillis = environment.getProperty("spring.datasource.hikari.connection-timeout", Long.class, 30_000L);
+    Duration acquireTimeout = environment.getProperty("api.db.acquire-timeout", Duration.class,
+        Duration.ofMillis(poolTimeoutMillis));
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof ConcurrencyLimitedDataSource)) {
+          return new ConcurrencyLimitedDataSource(dataSource, permits, acquireTimeout);
+        }
+        return bean;
+      }
+    };
+  }
+
+  @Bean
+  MeterBinder concurrencyLimitedDataSourceMetrics(DataSource dataSource) {
+    return meterRegistry -> {
+      if (dataSource instanceof ConcurrencyLimitedDataSource limited) {
+        Gauge.builder("db.concurrency.available", limited, ConcurrencyLimitedDataSource::availablePermits)
+            .register(meterRegistry);
+        Gauge.builder("db.concurrency.queued", limited, ConcurrencyLimitedDataSource::queuedThreads)
+            .register(meterRegistry);
+      }
+    };
+  }
+}
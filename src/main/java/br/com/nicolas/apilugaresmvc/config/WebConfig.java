@@ -0,0 +1,36 @@
+package br.com.nicolas.apilugaresmvc.config;
+
+import java.util.List;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import br.com.nicolas.apilugaresmvc.web.converters.PlaceProtobufHttpMessageConverter;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+  private final ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder;
+
+  public WebConfig(ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder) {
+    this.objectMapperBuilder = objectMapperBuilder;
+  }
+
+  // Appended after the defaults so JSON stays the answer for Accept: */* and only an explicit binary type selects them.
+  @Override
+  public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+    converters.add(new MappingJackson2CborHttpMessageConverter(
+        objectMapperBuilder.getObject().factory(new CBORFactory()).build()));
+    converters.add(new MappingJackson2SmileHttpMessageConverter(
+        objectMapperBuilder.getObject().factory(new SmileFactory()).build()));
+    converters.add(new PlaceProtobufHttpMessageConverter());
+  }
+}
@@ -0,0 +1,65 @@
+package br.com.nicolas.apilugaresmvc.domain.cache;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import br.com.nicolas.apilugaresmvc.api.dto.PlaceResponseDTO;
+import br.com.nicolas.apilugaresmvc.domain.events.PlaceChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+@Component
+public class PlaceCache {
+
+  private final Cache<UUID, PlaceResponseDTO> places;
+  private final AtomicLong evictions = new AtomicLong();
+
+  public PlaceCache(
+      @Value("${api.places.cache.max-size:10000}") long maxSize,
+      @Value("${api.places.cache.ttl:10m}") Duration ttl,
+      MeterRegistry meterRegistry) {
+    this.places = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(ttl)
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, places, "places");
+  }
+
+  // The loader runs outside Caffeine's compute, where a JDBC call would hold a map bin lock and pin a virtual
+  // thread's carrier. A load that overlaps an eviction drops its result so a stale place is never kept.
+  public PlaceResponseDTO get(UUID id, Function<UUID, PlaceResponseDTO> loader) {
+    PlaceResponseDTO cached = places.getIfPresent(id);
+    if (cached != null) {
+      return cached;
+    }
+    long generation = evictions.get();
+    PlaceResponseDTO loaded = loader.apply(id);
+    if (loaded != null && evictions.get() == generation) {
+      places.put(id, loaded);
+      if (evictions.get() != generation) {
+        places.asMap().remove(id, loaded);
+      }
+    }
+    return loaded;
+  }
+
+  public void evict(UUID id) {
+    evictions.incrementAndGet();
+    places.invalidate(id);
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onPlaceChanged(PlaceChangedEvent event) {
+    evict(event.id());
+  }
+}
@@ -4,18 +4,24 @@ import java.io.Serializable;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import br.com.nicolas.apilugaresmvc.domain.utils.TextNormalizer;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
-import lombok.AllArgsConstructor;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -24,11 +30,19 @@ import lombok.Setter;
 @Getter
 @Setter
 @NoArgsConstructor
-@AllArgsConstructor
 @EqualsAndHashCode(of = "id")
 @Entity
-@Table(name = "TB_PLACES")
+@Table(name = "TB_PLACES", indexes = {
+    @Index(name = "idx_places_name_id", columnList = "place_name, id_place"),
+    @Index(name = "idx_places_name_normalized", columnList = "place_name_normalized"),
+    @Index(name = "idx_places_updated_id", columnList = "updated_at, id_place")
+}, uniqueConstraints = {
+    @UniqueConstraint(name = "uk_places_key", columnNames = "place_key"),
+    @UniqueConstraint(name = "uk_places_slug", columnNames = "place_slug")
+})
 @EntityListeners(AuditingEntityListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "places")
 public class PlaceModel implements Serializable {
 
   private static final long serialVersionUID = 1L;
@@ -41,6 +55,14 @@ public class PlaceModel implements Serializable {
   @Column(name = "place_name")
   private String name;
 
+  @Setter(AccessLevel.NONE)
+  @Column(name = "place_name_normalized")
+  private String normalizedName;
+
+  @Setter(AccessLevel.NONE)
+  @Column(name = "place_key")
+  private String key;
+
   @Column(name = "place_slug")
   private String slug;
 
@@ -50,6 +72,12 @@ public class PlaceModel implements Serializable {
   @Column(name = "place_state")
   private String state;
 
+  @Column(name = "place_latitude")
+  private Double latitude;
+
+  @Column(name = "place_longitude")
+  private Double longitude;
+
   @CreatedDate
   @Column(name = "created_at")
   private LocalDateTime createdAt;
@@ -63,5 +91,46 @@ public class PlaceModel implements Serializable {
     this.slug = slug;
     this.city = city;
     this.state = state;
+    updateDerivedColumns();
+  }
+
+  public PlaceModel(UUID id, String name, String slug, String city, String state,
+      LocalDateTime createdAt, LocalDateTime updatedAt) {
+    this(name, slug, city, state);
+    this.id = id;
+    this.createdAt = createdAt;
+    this.updatedAt = updatedAt;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+    updateDerivedColumns();
+  }
+
+  public void setCity(String city) {
+    this.city = city;
+    updateDerivedColumns();
+  }
+
+  public void setState(String state) {
+    this.state = state;
+    updateDerivedColumns();
+  }
+
+  public static String key(String name, String city, String state) {
+    return TextNormalizer.normalize(name) + '|' + TextNormalizer.normalize(city) + '|'
+        + TextNormalizer.normalize(state);
+  }
+
+  private void updateDerivedColumns() {
+    this.normalizedName = TextNormalizer.normalize(name);
+    this.key = key(name, city, state);
+  }
+
+  public PlaceModel snapshot() {
+    PlaceModel snapshot = new PlaceModel(id, name, slug, city, state, createdAt, updatedAt);
+    snapshot.latitude = latitude;
+    snapshot.longitude = longitude;
+    return snapshot;
   }
 }
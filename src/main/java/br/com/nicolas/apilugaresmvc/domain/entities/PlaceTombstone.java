@@ -0,0 +1,62 @@
+package br.com.nicolas.apilugaresmvc.domain.entities;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.data.domain.Persistable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@EqualsAndHashCode(of = "id")
+@Entity
+@Table(name = "TB_PLACE_TOMBSTONES", indexes = {
+    @Index(name = "idx_place_tombstones_deleted_id", columnList = "deleted_at, id_place")
+})
+public class PlaceTombstone implements Persistable<UUID>, Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  @Id
+  @Column(name = "id_place")
+  private UUID id;
+
+  @Column(name = "deleted_at", nullable = false)
+  private LocalDateTime deletedAt;
+
+  // A place is deleted once, so a tombstone built here is always new. Reporting that lets save() persist it with a
+  // plain INSERT instead of merging, which would first SELECT by the assigned id.
+  @Transient
+  @Getter(AccessLevel.NONE)
+  private boolean isNew;
+
+  public PlaceTombstone(UUID id, LocalDateTime deletedAt) {
+    this.id = id;
+    this.deletedAt = deletedAt;
+    this.isNew = true;
+  }
+
+  @Override
+  public boolean isNew() {
+    return isNew;
+  }
+
+  @PostLoad
+  @PostPersist
+  void markNotNew() {
+    this.isNew = false;
+  }
+}
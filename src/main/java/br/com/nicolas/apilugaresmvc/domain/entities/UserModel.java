@@ -63,7 +63,6 @@ public class UserModel implements Serializable, UserDetails {
             authorities = List.of(new SimpleGrantedAuthority("ROLE_USER"));
         }
 
-        System.out.println("User Roles: " + authorities);
         return authorities;
     }
 
@@ -0,0 +1,108 @@
+package br.com.nicolas.apilugaresmvc.domain.events;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import br.com.nicolas.apilugaresmvc.api.dto.PlaceChangeDTO;
+import br.com.nicolas.apilugaresmvc.api.dto.PlaceResponseDTO;
+import br.com.nicolas.apilugaresmvc.domain.events.PlaceChangedEvent.ChangeType;
+import br.com.nicolas.apilugaresmvc.web.maps.PlaceMapper;
+
+@Component
+public class PlaceChangeLog {
+
+  // Sequences restart at every boot; event ids carry this epoch so a client resuming with an id from an earlier
+  // run is told to resync instead of being served an unrelated range of this run's changes.
+  private final String epoch = Long.toHexString(UUID.randomUUID().getMostSignificantBits());
+  private final PlaceChangeDTO[] buffer;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition appended = lock.newCondition();
+  private long lastSequence;
+
+  public PlaceChangeLog(@Value("${api.places.changes.buffer-size:10000}") int bufferSize) {
+    this.buffer = new PlaceChangeDTO[bufferSize];
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onPlaceChanged(PlaceChangedEvent event) {
+    append(event.type(), event.id(), event.after() != null ? PlaceMapper.fromPlaceToResponse(event.after()) : null);
+  }
+
+  public long append(ChangeType type, UUID id, PlaceResponseDTO place) {
+    lock.lock();
+    try {
+      long sequence = ++lastSequence;
+      buffer[index(sequence)] = new PlaceChangeDTO(sequence, type.name(), id, place, LocalDateTime.now());
+      appended.signalAll();
+      return sequence;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public long lastSequence() {
+    lock.lock();
+    try {
+      return lastSequence;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public Optional<List<PlaceChangeDTO>> readAfter(long after, int max, Duration wait) throws InterruptedException {
+    lock.lock();
+    try {
+      long nanos = wait.toNanos();
+      while (after == lastSequence && nanos > 0) {
+        nanos = appended.awaitNanos(nanos);
+      }
+      if (after > lastSequence || after < lastSequence - buffer.length) {
+        return Optional.empty();
+      }
+
+      long last = Math.min(lastSequence, after + max);
+      List<PlaceChangeDTO> changes = new ArrayList<>((int) (last - after));
+      for (long sequence = after + 1; sequence <= last; sequence++) {
+        changes.add(buffer[index(sequence)]);
+      }
+      return Optional.of(changes);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public String eventId(long sequence) {
+    return epoch + ":" + sequence;
+  }
+
+  /**
+   * Returns the sequence of an event id issued by this run, or empty when the id is malformed or belongs to an
+   * earlier one.
+   */
+  public OptionalLong sequenceOf(String eventId) {
+    int separator = eventId.indexOf(':');
+    if (separator < 0 || !epoch.equals(eventId.substring(0, separator))) {
+      return OptionalLong.empty();
+    }
+    try {
+      return OptionalLong.of(Long.parseLong(eventId.substring(separator + 1)));
+    } catch (NumberFormatException e) {
+      return OptionalLong.empty();
+    }
+  }
+
+  private int index(long sequence) {
+    return (int) (sequence % buffer.length);
+  }
+}
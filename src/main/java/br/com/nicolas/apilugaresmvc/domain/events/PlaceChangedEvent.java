@@ -0,0 +1,30 @@
+package br.com.nicolas.apilugaresmvc.domain.events;
+
+import java.util.UUID;
+
+import br.com.nicolas.apilugaresmvc.domain.entities.PlaceModel;
+
+public record PlaceChangedEvent(ChangeType type, PlaceModel before, PlaceModel after) {
+
+  public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+  }
+
+  public static PlaceChangedEvent created(PlaceModel place) {
+    return new PlaceChangedEvent(ChangeType.CREATED, null, place.snapshot());
+  }
+
+  public static PlaceChangedEvent updated(PlaceModel before, PlaceModel after) {
+    return new PlaceChangedEvent(ChangeType.UPDATED, before, after.snapshot());
+  }
+
+  public static PlaceChangedEvent deleted(PlaceModel place) {
+    return new PlaceChangedEvent(ChangeType.DELETED, place.snapshot(), null);
+  }
+
+  public UUID id() {
+    return after != null ? after.getId() : before.getId();
+  }
+}
@@ -0,0 +1,8 @@
+package br.com.nicolas.apilugaresmvc.domain.exceptions;
+
+public class InvalidCoordinatesException extends RuntimeException {
+
+  public InvalidCoordinatesException(String message) {
+    super(message);
+  }
+}
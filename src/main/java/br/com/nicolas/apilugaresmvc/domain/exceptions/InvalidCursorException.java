@@ -0,0 +1,8 @@
+package br.com.nicolas.apilugaresmvc.domain.exceptions;
+
+public class InvalidCursorException extends RuntimeException {
+
+  public InvalidCursorException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,8 @@
+package br.com.nicolas.apilugaresmvc.domain.exceptions;
+
+public class ServiceOverloadedException extends RuntimeException {
+
+  public ServiceOverloadedException(String message) {
+    super(message);
+  }
+}
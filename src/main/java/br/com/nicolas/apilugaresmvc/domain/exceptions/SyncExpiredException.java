@@ -0,0 +1,8 @@
+package br.com.nicolas.apilugaresmvc.domain.exceptions;
+
+public class SyncExpiredException extends RuntimeException {
+
+  public SyncExpiredException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,226 @@
+package br.com.nicolas.apilugaresmvc.domain.indexes;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.springframework.stereotype.Component;
+
+import br.com.nicolas.apilugaresmvc.api.dto.PlaceNearbyDTO;
+import br.com.nicolas.apilugaresmvc.domain.entities.PlaceModel;
+
+@Component
+public class PlaceGeoIndex implements PlaceIndex {
+
+  private static final double CELL_DEGREES = 0.02;
+  private static final int ROWS = (int) Math.ceil(180 / CELL_DEGREES);
+  private static final int COLUMNS = (int) Math.ceil(360 / CELL_DEGREES);
+  private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+  private static final double METERS_PER_DEGREE = Math.PI * EARTH_RADIUS_METERS / 180;
+
+  private volatile Grid grid = new Grid();
+
+  @Override
+  public Rebuild startRebuild() {
+    Grid rebuilt = new Grid();
+    return new Rebuild() {
+
+      @Override
+      public void add(PlaceModel place) {
+        rebuilt.add(place);
+      }
+
+      @Override
+      public void remove(PlaceModel place) {
+        rebuilt.remove(place);
+      }
+
+      @Override
+      public void publish() {
+        grid = rebuilt;
+      }
+    };
+  }
+
+  @Override
+  public void add(PlaceModel place) {
+    grid.add(place);
+  }
+
+  @Override
+  public void remove(PlaceModel place) {
+    grid.remove(place);
+  }
+
+  public List<PlaceNearbyDTO> nearest(double latitude, double longitude, double radiusMeters, int limit) {
+    Grid grid = this.grid;
+    PriorityQueue<PlaceNearbyDTO> nearest = new PriorityQueue<>(
+        Comparator.comparingDouble(PlaceNearbyDTO::distanceMeters).reversed());
+    double maxLatitude = Math.min(89.9, Math.abs(latitude) + radiusMeters / METERS_PER_DEGREE);
+    double rowMeters = CELL_DEGREES * METERS_PER_DEGREE;
+    double columnMeters = rowMeters * Math.cos(Math.toRadians(maxLatitude));
+    int maxRing = Math.min(ROWS, (int) Math.ceil(radiusMeters / rowMeters) + 1);
+    int centerRow = row(latitude);
+    int centerColumn = column(longitude);
+
+    // Ring n reaches n rows and as many columns as cover the same distance at the widest latitude in range. Near the
+    // poles that reach wraps around, so it is capped at whole latitude bands and no cell is visited twice.
+    int scannedWest = 0;
+    int scannedEast = 0;
+    for (int ring = 0; ring <= maxRing; ring++) {
+      int reach = (int) Math.min(COLUMNS, Math.ceil(ring * rowMeters / columnMeters));
+      int west = Math.min(reach, COLUMNS / 2);
+      int east = Math.min(reach, COLUMNS - 1 - COLUMNS / 2);
+      for (int row = centerRow - ring; row <= centerRow + ring; row++) {
+        if (row < 0 || row >= ROWS) {
+          continue;
+        }
+        if (Math.abs(row - centerRow) == ring) {
+          grid.collectRow(row, centerColumn - west, centerColumn + east, latitude, longitude, radiusMeters, limit,
+              nearest);
+        } else {
+          grid.collectRow(row, centerColumn - west, centerColumn - scannedWest - 1, latitude, longitude, radiusMeters,
+              limit, nearest);
+          grid.collectRow(row, centerColumn + scannedEast + 1, centerColumn + east, latitude, longitude, radiusMeters,
+              limit, nearest);
+        }
+      }
+      scannedWest = west;
+      scannedEast = east;
+
+      double unscannedDistance = ring * rowMeters;
+      if (unscannedDistance > radiusMeters
+          || (nearest.size() == limit && nearest.peek().distanceMeters() <= unscannedDistance)) {
+        break;
+      }
+    }
+
+    List<PlaceNearbyDTO> result = new ArrayList<>(nearest);
+    result.sort(Comparator.comparingDouble(PlaceNearbyDTO::distanceMeters));
+    return result;
+  }
+
+  public int size() {
+    return grid.size();
+  }
+
+  private static void collect(Collection<Map<UUID, Entry>> cells, double latitude, double longitude,
+      double radiusMeters, int limit, PriorityQueue<PlaceNearbyDTO> nearest) {
+    for (Map<UUID, Entry> entries : cells) {
+      for (Entry entry : entries.values()) {
+        double distance = distanceMeters(latitude, longitude, entry.latitude(), entry.longitude());
+        if (distance > radiusMeters) {
+          continue;
+        }
+        if (nearest.size() < limit) {
+          nearest.add(entry.toNearby(distance));
+        } else if (distance < nearest.peek().distanceMeters()) {
+          nearest.poll();
+          nearest.add(entry.toNearby(distance));
+        }
+      }
+    }
+  }
+
+  static double distanceMeters(double fromLatitude, double fromLongitude, double toLatitude, double toLongitude) {
+    double deltaLatitude = Math.toRadians(toLatitude - fromLatitude);
+    double deltaLongitude = Math.toRadians(toLongitude - fromLongitude);
+    double a = Math.sin(deltaLatitude / 2) * Math.sin(deltaLatitude / 2)
+        + Math.cos(Math.toRadians(fromLatitude)) * Math.cos(Math.toRadians(toLatitude))
+            * Math.sin(deltaLongitude / 2) * Math.sin(deltaLongitude / 2);
+    return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+  }
+
+  private static int row(double latitude) {
+    return Math.min(ROWS - 1, (int) Math.floor((latitude + 90) / CELL_DEGREES));
+  }
+
+  private static int column(double longitude) {
+    return Math.floorMod((int) Math.floor((longitude + 180) / CELL_DEGREES), COLUMNS);
+  }
+
+  // Rows are addressed by index and each keeps only its occupied columns, sorted, so a ring walks the places in its
+  // column range instead of probing every column of it; near the poles that range is the whole row.
+  private static final class Grid {
+
+    private final AtomicReferenceArray<ConcurrentSkipListMap<Integer, Map<UUID, Entry>>> rows =
+        new AtomicReferenceArray<>(ROWS);
+
+    void add(PlaceModel place) {
+      if (place.getId() == null || place.getLatitude() == null || place.getLongitude() == null) {
+        return;
+      }
+      Entry entry = new Entry(place.getId(), place.getName(), place.getSlug(), place.getCity(), place.getState(),
+          place.getLatitude(), place.getLongitude());
+      int row = row(entry.latitude());
+      ConcurrentSkipListMap<Integer, Map<UUID, Entry>> columns = rows.get(row);
+      if (columns == null) {
+        rows.compareAndSet(row, null, new ConcurrentSkipListMap<>());
+        columns = rows.get(row);
+      }
+      columns.compute(column(entry.longitude()), (column, entries) -> {
+        Map<UUID, Entry> cell = entries != null ? entries : new ConcurrentHashMap<>();
+        cell.put(entry.id(), entry);
+        return cell;
+      });
+    }
+
+    void remove(PlaceModel place) {
+      if (place.getId() == null || place.getLatitude() == null || place.getLongitude() == null) {
+        return;
+      }
+      ConcurrentSkipListMap<Integer, Map<UUID, Entry>> columns = rows.get(row(place.getLatitude()));
+      if (columns == null) {
+        return;
+      }
+      columns.computeIfPresent(column(place.getLongitude()), (column, entries) -> {
+        entries.remove(place.getId());
+        return entries.isEmpty() ? null : entries;
+      });
+    }
+
+    // The range may run past either edge of the row but never covers more than the whole row, so it wraps at most
+    // once.
+    void collectRow(int row, int fromColumn, int toColumn, double latitude, double longitude, double radiusMeters,
+        int limit, PriorityQueue<PlaceNearbyDTO> nearest) {
+      ConcurrentSkipListMap<Integer, Map<UUID, Entry>> columns = rows.get(row);
+      if (columns == null || fromColumn > toColumn) {
+        return;
+      }
+      int from = Math.floorMod(fromColumn, COLUMNS);
+      int to = from + Math.min(toColumn - fromColumn, COLUMNS - 1);
+      if (to < COLUMNS) {
+        collect(columns.subMap(from, true, to, true).values(), latitude, longitude, radiusMeters, limit, nearest);
+      } else {
+        collect(columns.tailMap(from, true).values(), latitude, longitude, radiusMeters, limit, nearest);
+        collect(columns.headMap(to - COLUMNS, true).values(), latitude, longitude, radiusMeters, limit, nearest);
+      }
+    }
+
+    int size() {
+      int size = 0;
+      for (int row = 0; row < ROWS; row++) {
+        ConcurrentSkipListMap<Integer, Map<UUID, Entry>> columns = rows.get(row);
+        if (columns != null) {
+          size += columns.values().stream().mapToInt(Map::size).sum();
+        }
+      }
+      return size;
+    }
+  }
+
+  private record Entry(UUID id, String name, String slug, String city, String state, double latitude,
+      double longitude) {
+
+    PlaceNearbyDTO toNearby(double distanceMeters) {
+      return new PlaceNearbyDTO(id, name, slug, city, state, latitude, longitude, distanceMeters);
+    }
+  }
+}
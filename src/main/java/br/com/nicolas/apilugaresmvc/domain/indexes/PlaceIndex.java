@@ -0,0 +1,29 @@
+package br.com.nicolas.apilugaresmvc.domain.indexes;
+
+import br.com.nicolas.apilugaresmvc.domain.entities.PlaceModel;
+
+public interface PlaceIndex {
+
+  /**
+   * Starts an empty copy of this index that is filled off to the side while the current contents keep serving, and
+   * replaces them when published.
+   */
+  Rebuild startRebuild();
+
+  void add(PlaceModel place);
+
+  void remove(PlaceModel place);
+
+  /**
+   * A copy being loaded. Adding or removing the same place again must leave it as if it happened once, because
+   * changes that raced the load are replayed into it before it is published.
+   */
+  interface Rebuild {
+
+    void add(PlaceModel place);
+
+    void remove(PlaceModel place);
+
+    void publish();
+  }
+}
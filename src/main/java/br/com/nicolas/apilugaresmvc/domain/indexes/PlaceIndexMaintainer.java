@@ -0,0 +1,126 @@
+package br.com.nicolas.apilugaresmvc.domain.indexes;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.nicolas.apilugaresmvc.domain.entities.PlaceModel;
+import br.com.nicolas.apilugaresmvc.domain.events.PlaceChangedEvent;
+import br.com.nicolas.apilugaresmvc.domain.repositories.PlaceRepository;
+import jakarta.persistence.EntityManager;
+
+@Component
+public class PlaceIndexMaintainer {
+
+  private static final Logger log = LoggerFactory.getLogger(PlaceIndexMaintainer.class);
+  private static final int LOAD_CLEAR_INTERVAL = 500;
+
+  private final List<PlaceIndex> indexes;
+  private final PlaceRepository placeRepository;
+  private final EntityManager entityManager;
+  private final TransactionTemplate readOnlyTransaction;
+
+  // Changes committed while a rebuild scans the table. The scan may or may not have seen them, so they are replayed
+  // into the rebuild before it is published.
+  private final ReentrantLock lock = new ReentrantLock();
+  private final List<List<PlaceChangedEvent>> pendingChanges = new ArrayList<>();
+
+  public PlaceIndexMaintainer(List<PlaceIndex> indexes, PlaceRepository placeRepository,
+      EntityManager entityManager, PlatformTransactionManager transactionManager) {
+    this.indexes = indexes;
+    this.placeRepository = placeRepository;
+    this.entityManager = entityManager;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void load() {
+    long loaded = rebuild(indexes);
+    log.info("Loaded {} places into {} in-memory indexes", loaded, indexes.size());
+  }
+
+  /**
+   * Reloads the given indexes from the database. They keep serving their current contents until the new ones are
+   * complete and are then swapped in together.
+   */
+  public long rebuild(List<PlaceIndex> targets) {
+    List<PlaceIndex.Rebuild> rebuilds = targets.stream().map(PlaceIndex::startRebuild).toList();
+    List<PlaceChangedEvent> changes = new ArrayList<>();
+    lock.lock();
+    try {
+      pendingChanges.add(changes);
+    } finally {
+      lock.unlock();
+    }
+
+    try {
+      Long loaded = readOnlyTransaction.execute(status -> {
+        long count = 0;
+        try (Stream<PlaceModel> places = placeRepository.streamAll()) {
+          Iterator<PlaceModel> iterator = places.iterator();
+          while (iterator.hasNext()) {
+            PlaceModel place = iterator.next();
+            rebuilds.forEach(rebuild -> rebuild.add(place));
+            if (++count % LOAD_CLEAR_INTERVAL == 0) {
+              entityManager.clear();
+            }
+          }
+        }
+        return count;
+      });
+
+      lock.lock();
+      try {
+        for (PlaceChangedEvent change : changes) {
+          rebuilds.forEach(rebuild -> apply(change, rebuild::remove, rebuild::add));
+        }
+        rebuilds.forEach(PlaceIndex.Rebuild::publish);
+      } finally {
+        lock.unlock();
+      }
+      return loaded;
+    } finally {
+      lock.lock();
+      try {
+        pendingChanges.removeIf(pending -> pending == changes);
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onPlaceChanged(PlaceChangedEvent event) {
+    lock.lock();
+    try {
+      for (PlaceIndex index : indexes) {
+        apply(event, index::remove, index::add);
+      }
+      pendingChanges.forEach(changes -> changes.add(event));
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private static void apply(PlaceChangedEvent event, Consumer<PlaceModel> remove, Consumer<PlaceModel> add) {
+    if (event.before() != null) {
+      remove.accept(event.before());
+    }
+    if (event.after() != null) {
+      add.accept(event.after());
+    }
+  }
+}
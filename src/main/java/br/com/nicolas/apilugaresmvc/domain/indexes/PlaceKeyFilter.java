@@ -0,0 +1,138 @@
+package br.com.nicolas.apilugaresmvc.domain.indexes;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+
+import br.com.nicolas.apilugaresmvc.domain.entities.PlaceModel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Component
+public class PlaceKeyFilter implements PlaceIndex {
+
+  private final long expectedInsertions;
+  private final double falsePositiveRate;
+  private final Counter definiteMisses;
+  private final Counter possibleMatches;
+  private final Counter notLoaded;
+
+  private volatile BloomFilter<CharSequence> filter;
+  private volatile BloomFilter<CharSequence> building;
+  private volatile boolean loaded;
+
+  public PlaceKeyFilter(
+      @Value("${api.places.bloom.expected-insertions:1000000}") long expectedInsertions,
+      @Value("${api.places.bloom.fpp:0.01}") double falsePositiveRate,
+      MeterRegistry meterRegistry) {
+    this.expectedInsertions = expectedInsertions;
+    this.falsePositiveRate = falsePositiveRate;
+    this.filter = newFilter();
+
+    Gauge.builder("places.bloom.expected.fpp", this, PlaceKeyFilter::expectedFpp)
+        .description("Estimated false-positive rate of the duplicate place filter")
+        .register(meterRegistry);
+    Gauge.builder("places.bloom.elements", this, keyFilter -> keyFilter.filter.approximateElementCount())
+        .register(meterRegistry);
+    Gauge.builder("places.bloom.memory", this, PlaceKeyFilter::memoryBytes)
+        .baseUnit("bytes")
+        .register(meterRegistry);
+    this.definiteMisses = Counter.builder("places.bloom.checks").tag("result", "definite_miss")
+        .register(meterRegistry);
+    this.possibleMatches = Counter.builder("places.bloom.checks").tag("result", "possible_match")
+        .register(meterRegistry);
+    this.notLoaded = Counter.builder("places.bloom.checks").tag("result", "not_loaded")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public Rebuild startRebuild() {
+    BloomFilter<CharSequence> rebuilt = newFilter();
+    return new Rebuild() {
+
+      @Override
+      public void add(PlaceModel place) {
+        rebuilt.put(PlaceModel.key(place.getName(), place.getCity(), place.getState()));
+      }
+
+      @Override
+      public void remove(PlaceModel place) {
+      }
+
+      @Override
+      public void publish() {
+        filter = rebuilt;
+        loaded = true;
+      }
+    };
+  }
+
+  @Override
+  public void add(PlaceModel place) {
+    put(PlaceModel.key(place.getName(), place.getCity(), place.getState()));
+  }
+
+  @Override
+  public void remove(PlaceModel place) {
+    // Bloom filters cannot forget keys; deleted keys are dropped by the next rebuild.
+  }
+
+  /**
+   * Until the first load completes the filter has not seen the existing places, so every key might be present.
+   */
+  public boolean mightContain(String key) {
+    if (!loaded) {
+      notLoaded.increment();
+      return true;
+    }
+    boolean mightContain = filter.mightContain(key);
+    (mightContain ? possibleMatches : definiteMisses).increment();
+    return mightContain;
+  }
+
+  // The new filter is published before the query runs, so a key committed between the query's snapshot and the
+  // end of the scan still reaches it through put().
+  public void rebuild(Supplier<Stream<String>> keyQuery) {
+    BloomFilter<CharSequence> rebuilt = newFilter();
+    building = rebuilt;
+    try (Stream<String> keys = keyQuery.get()) {
+      Iterator<String> iterator = keys.iterator();
+      while (iterator.hasNext()) {
+        rebuilt.put(iterator.next());
+      }
+      filter = rebuilt;
+      loaded = true;
+    } finally {
+      building = null;
+    }
+  }
+
+  public double expectedFpp() {
+    return filter.expectedFpp();
+  }
+
+  public double memoryBytes() {
+    double bits = -expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+    return Math.ceil(bits / Long.SIZE) * Long.BYTES;
+  }
+
+  private void put(String key) {
+    filter.put(key);
+    BloomFilter<CharSequence> pending = building;
+    if (pending != null) {
+      pending.put(key);
+    }
+  }
+
+  private BloomFilter<CharSequence> newFilter() {
+    return BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), expectedInsertions, falsePositiveRate);
+  }
+}
@@ -0,0 +1,35 @@
+package br.com.nicolas.apilugaresmvc.domain.indexes;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.nicolas.apilugaresmvc.domain.repositories.PlaceRepository;
+
+@Component
+public class PlaceKeyFilterRebuilder {
+
+  private static final Logger log = LoggerFactory.getLogger(PlaceKeyFilterRebuilder.class);
+
+  private final PlaceKeyFilter keyFilter;
+  private final PlaceRepository placeRepository;
+  private final TransactionTemplate readOnlyTransaction;
+
+  public PlaceKeyFilterRebuilder(PlaceKeyFilter keyFilter, PlaceRepository placeRepository,
+      PlatformTransactionManager transactionManager) {
+    this.keyFilter = keyFilter;
+    this.placeRepository = placeRepository;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+  }
+
+  @Scheduled(initialDelayString = "${api.places.bloom.rebuild-interval:PT1H}",
+      fixedDelayString = "${api.places.bloom.rebuild-interval:PT1H}")
+  public void rebuild() {
+    readOnlyTransaction.executeWithoutResult(status -> keyFilter.rebuild(placeRepository::streamAllKeys));
+    log.info("Rebuilt duplicate place filter, estimated false-positive rate {}", keyFilter.expectedFpp());
+  }
+}
@@ -0,0 +1,68 @@
+package br.com.nicolas.apilugaresmvc.domain.indexes;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import br.com.nicolas.apilugaresmvc.domain.entities.PlaceModel;
+
+@Component
+public class PlaceSlugIndex implements PlaceIndex {
+
+  private volatile Map<String, UUID> ids = new ConcurrentHashMap<>();
+
+  @Override
+  public Rebuild startRebuild() {
+    Map<String, UUID> rebuilt = new ConcurrentHashMap<>();
+    return new Rebuild() {
+
+      @Override
+      public void add(PlaceModel place) {
+        PlaceSlugIndex.add(rebuilt, place);
+      }
+
+      @Override
+      public void remove(PlaceModel place) {
+        PlaceSlugIndex.remove(rebuilt, place);
+      }
+
+      @Override
+      public void publish() {
+        ids = rebuilt;
+      }
+    };
+  }
+
+  @Override
+  public void add(PlaceModel place) {
+    add(ids, place);
+  }
+
+  @Override
+  public void remove(PlaceModel place) {
+    remove(ids, place);
+  }
+
+  public Optional<UUID> resolve(String slug) {
+    return Optional.ofNullable(ids.get(slug));
+  }
+
+  public int size() {
+    return ids.size();
+  }
+
+  private static void add(Map<String, UUID> ids, PlaceModel place) {
+    if (place.getSlug() != null && place.getId() != null) {
+      ids.put(place.getSlug(), place.getId());
+    }
+  }
+
+  private static void remove(Map<String, UUID> ids, PlaceModel place) {
+    if (place.getSlug() != null && place.getId() != null) {
+      ids.remove(place.getSlug(), place.getId());
+    }
+  }
+}
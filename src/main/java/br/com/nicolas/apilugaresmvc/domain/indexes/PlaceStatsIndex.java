@@ -0,0 +1,149 @@
+package br.com.nicolas.apilugaresmvc.domain.indexes;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.stereotype.Component;
+
+import br.com.nicolas.apilugaresmvc.api.dto.PlaceStateStatsDTO;
+import br.com.nicolas.apilugaresmvc.api.dto.PlaceStatsDTO;
+import br.com.nicolas.apilugaresmvc.domain.entities.PlaceModel;
+import br.com.nicolas.apilugaresmvc.domain.utils.TextNormalizer;
+
+@Component
+public class PlaceStatsIndex implements PlaceIndex {
+
+  private volatile Counts counts = new Counts();
+  private volatile long lastDrift;
+
+  // The counts alone cannot tell a replayed change from a new one, so a rebuild remembers where it counted each
+  // place until it is published.
+  @Override
+  public Rebuild startRebuild() {
+    Counts rebuilt = new Counts();
+    Map<UUID, CountedPlace> counted = new HashMap<>();
+    return new Rebuild() {
+
+      @Override
+      public void add(PlaceModel place) {
+        remove(place);
+        if (place.getId() != null) {
+          counted.put(place.getId(), new CountedPlace(place.getState(), place.getCity()));
+          rebuilt.add(place.getState(), place.getCity(), 1);
+        }
+      }
+
+      @Override
+      public void remove(PlaceModel place) {
+        CountedPlace previous = place.getId() != null ? counted.remove(place.getId()) : null;
+        if (previous != null) {
+          rebuilt.add(previous.state(), previous.city(), -1);
+        }
+      }
+
+      @Override
+      public void publish() {
+        lastDrift = rebuilt.total() - counts.total();
+        counts = rebuilt;
+      }
+    };
+  }
+
+  @Override
+  public void add(PlaceModel place) {
+    counts.add(place.getState(), place.getCity(), 1);
+  }
+
+  @Override
+  public void remove(PlaceModel place) {
+    counts.add(place.getState(), place.getCity(), -1);
+  }
+
+  public PlaceStatsDTO stats() {
+    Counts current = counts;
+    Map<String, Long> states = new TreeMap<>();
+    long total = 0;
+    for (StateCounts state : current.states.values()) {
+      long count = state.total.sum();
+      if (count > 0) {
+        states.merge(state.name, count, Long::sum);
+        total += count;
+      }
+    }
+    return new PlaceStatsDTO(total, states);
+  }
+
+  public Optional<PlaceStateStatsDTO> stateStats(String state) {
+    String normalizedState = TextNormalizer.normalize(state);
+    StateCounts stateCounts = normalizedState == null ? null : counts.states.get(normalizedState);
+    if (stateCounts == null || stateCounts.total.sum() <= 0) {
+      return Optional.empty();
+    }
+
+    Map<String, Long> cities = new TreeMap<>();
+    for (CityCount city : stateCounts.cities.values()) {
+      long count = city.count.sum();
+      if (count > 0) {
+        cities.merge(city.name, count, Long::sum);
+      }
+    }
+    return Optional.of(new PlaceStateStatsDTO(stateCounts.name, stateCounts.total.sum(), cities));
+  }
+
+  /**
+   * Difference between the total of the last published rebuild and the total it replaced.
+   */
+  public long lastDrift() {
+    return lastDrift;
+  }
+
+  private record CountedPlace(String state, String city) {
+
+  }
+
+  private static final class Counts {
+
+    private final Map<String, StateCounts> states = new ConcurrentHashMap<>();
+
+    void add(String state, String city, long delta) {
+      String normalizedState = TextNormalizer.normalize(state);
+      String normalizedCity = TextNormalizer.normalize(city);
+      if (normalizedState == null || normalizedCity == null) {
+        return;
+      }
+      StateCounts stateCounts = states.computeIfAbsent(normalizedState, key -> new StateCounts(state.trim()));
+      stateCounts.total.add(delta);
+      stateCounts.cities.computeIfAbsent(normalizedCity, key -> new CityCount(city.trim())).count.add(delta);
+    }
+
+    long total() {
+      return states.values().stream().mapToLong(state -> state.total.sum()).sum();
+    }
+  }
+
+  private static final class StateCounts {
+
+    private final String name;
+    private final LongAdder total = new LongAdder();
+    private final Map<String, CityCount> cities = new ConcurrentHashMap<>();
+
+    StateCounts(String name) {
+      this.name = name;
+    }
+  }
+
+  private static final class CityCount {
+
+    private final String name;
+    private final LongAdder count = new LongAdder();
+
+    CityCount(String name) {
+      this.name = name;
+    }
+  }
+}
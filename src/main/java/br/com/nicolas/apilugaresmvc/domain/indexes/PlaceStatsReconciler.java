@@ -0,0 +1,31 @@
+package br.com.nicolas.apilugaresmvc.domain.indexes;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PlaceStatsReconciler {
+
+  private static final Logger log = LoggerFactory.getLogger(PlaceStatsReconciler.class);
+
+  private final PlaceStatsIndex statsIndex;
+  private final PlaceIndexMaintainer indexMaintainer;
+
+  public PlaceStatsReconciler(PlaceStatsIndex statsIndex, PlaceIndexMaintainer indexMaintainer) {
+    this.statsIndex = statsIndex;
+    this.indexMaintainer = indexMaintainer;
+  }
+
+  // Goes through the index rebuild so changes that race the scan are replayed per place instead of being counted
+  // on top of a snapshot that may already include them.
+  @Scheduled(initialDelayString = "${api.places.stats.reconcile-interval:PT15M}",
+      fixedDelayString = "${api.places.stats.reconcile-interval:PT15M}")
+  public void reconcile() {
+    indexMaintainer.rebuild(List.of(statsIndex));
+    log.info("Reconciled place counts with the database, total drift {}", statsIndex.lastDrift());
+  }
+}
@@ -0,0 +1,133 @@
+package br.com.nicolas.apilugaresmvc.domain.indexes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Component;
+
+import br.com.nicolas.apilugaresmvc.api.dto.PlaceSuggestionDTO;
+import br.com.nicolas.apilugaresmvc.domain.entities.PlaceModel;
+import br.com.nicolas.apilugaresmvc.domain.utils.TextNormalizer;
+
+@Component
+public class PlaceSuggestionIndex implements PlaceIndex {
+
+  private static final char KEY_SEPARATOR = '\u0000';
+  private static final String ALL_PLACES = "";
+
+  // Each place is filed under every filter that can select it (none, its state, its city and both), so a filtered
+  // prefix lookup only walks places that pass the filter.
+  private volatile ConcurrentHashMap<String, ConcurrentSkipListMap<String, PlaceSuggestionDTO>> scopes =
+      new ConcurrentHashMap<>();
+
+  @Override
+  public Rebuild startRebuild() {
+    ConcurrentHashMap<String, ConcurrentSkipListMap<String, PlaceSuggestionDTO>> rebuilt = new ConcurrentHashMap<>();
+    return new Rebuild() {
+
+      @Override
+      public void add(PlaceModel place) {
+        PlaceSuggestionIndex.add(rebuilt, place);
+      }
+
+      @Override
+      public void remove(PlaceModel place) {
+        PlaceSuggestionIndex.remove(rebuilt, place);
+      }
+
+      @Override
+      public void publish() {
+        scopes = rebuilt;
+      }
+    };
+  }
+
+  @Override
+  public void add(PlaceModel place) {
+    add(scopes, place);
+  }
+
+  @Override
+  public void remove(PlaceModel place) {
+    remove(scopes, place);
+  }
+
+  private static void add(ConcurrentHashMap<String, ConcurrentSkipListMap<String, PlaceSuggestionDTO>> scopes,
+      PlaceModel place) {
+    String normalizedName = TextNormalizer.normalize(place.getName());
+    if (normalizedName == null || place.getId() == null) {
+      return;
+    }
+    String key = key(normalizedName, place);
+    PlaceSuggestionDTO suggestion =
+        new PlaceSuggestionDTO(place.getId(), place.getName(), place.getSlug(), place.getCity(), place.getState());
+    scopesOf(place).forEach(scope -> scopes.compute(scope, (name, entries) -> {
+      ConcurrentSkipListMap<String, PlaceSuggestionDTO> scoped = entries != null ? entries
+          : new ConcurrentSkipListMap<>();
+      scoped.put(key, suggestion);
+      return scoped;
+    }));
+  }
+
+  private static void remove(ConcurrentHashMap<String, ConcurrentSkipListMap<String, PlaceSuggestionDTO>> scopes,
+      PlaceModel place) {
+    String normalizedName = TextNormalizer.normalize(place.getName());
+    if (normalizedName == null || place.getId() == null) {
+      return;
+    }
+    String key = key(normalizedName, place);
+    scopesOf(place).forEach(scope -> scopes.computeIfPresent(scope, (name, entries) -> {
+      entries.remove(key);
+      return entries.isEmpty() ? null : entries;
+    }));
+  }
+
+  public List<PlaceSuggestionDTO> suggest(String prefix, String city, String state, int limit) {
+    String normalizedPrefix = TextNormalizer.normalize(prefix);
+    if (normalizedPrefix == null || normalizedPrefix.isEmpty()) {
+      return List.of();
+    }
+    ConcurrentSkipListMap<String, PlaceSuggestionDTO> scoped =
+        scopes.get(scope(TextNormalizer.normalize(state), TextNormalizer.normalize(city)));
+    if (scoped == null) {
+      return List.of();
+    }
+
+    List<PlaceSuggestionDTO> suggestions = new ArrayList<>(limit);
+    for (PlaceSuggestionDTO suggestion : scoped.subMap(
+        normalizedPrefix, true, normalizedPrefix + Character.MAX_VALUE, false).values()) {
+      suggestions.add(suggestion);
+      if (suggestions.size() == limit) {
+        break;
+      }
+    }
+    return suggestions;
+  }
+
+  public int size() {
+    ConcurrentSkipListMap<String, PlaceSuggestionDTO> all = scopes.get(ALL_PLACES);
+    return all != null ? all.size() : 0;
+  }
+
+  private static String key(String normalizedName, PlaceModel place) {
+    return normalizedName + KEY_SEPARATOR + place.getId();
+  }
+
+  private static Stream<String> scopesOf(PlaceModel place) {
+    String state = TextNormalizer.normalize(place.getState());
+    String city = TextNormalizer.normalize(place.getCity());
+    return Stream.of(ALL_PLACES, scope(state, null), scope(null, city), scope(state, city)).distinct();
+  }
+
+  private static String scope(String state, String city) {
+    boolean hasState = state != null && !state.isEmpty();
+    boolean hasCity = city != null && !city.isEmpty();
+    if (!hasState && !hasCity) {
+      return ALL_PLACES;
+    }
+    return (hasState ? state : "") + KEY_SEPARATOR + (hasCity ? city : "");
+  }
+}
@@ -0,0 +1,30 @@
+package br.com.nicolas.apilugaresmvc.domain.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+import br.com.nicolas.apilugaresmvc.domain.exceptions.InvalidCursorException;
+
+public record PlaceCursor(String key, UUID id) {
+
+  private static final char SEPARATOR = '\n';
+
+  public String encode() {
+    String raw = key + SEPARATOR + id;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static PlaceCursor decode(String token) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      int separator = raw.lastIndexOf(SEPARATOR);
+      if (separator < 0) {
+        throw new InvalidCursorException("Invalid pagination cursor");
+      }
+      return new PlaceCursor(raw.substring(0, separator), UUID.fromString(raw.substring(separator + 1)));
+    } catch (IllegalArgumentException e) {
+      throw new InvalidCursorException("Invalid pagination cursor");
+    }
+  }
+}
@@ -1,18 +1,88 @@
 package br.com.nicolas.apilugaresmvc.domain.repositories;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import br.com.nicolas.apilugaresmvc.api.dto.PlaceResponseDTO;
 import br.com.nicolas.apilugaresmvc.domain.entities.PlaceModel;
-import jakarta.validation.constraints.NotBlank;
+import jakarta.persistence.QueryHint;
 
 public interface PlaceRepository extends JpaRepository<PlaceModel, UUID> {
 
-  public Optional<List<PlaceModel>> findAllByNameIgnoreCase(String name);
+  String RESPONSE_PROJECTION = "new br.com.nicolas.apilugaresmvc.api.dto.PlaceResponseDTO("
+      + "p.name, p.slug, p.city, p.state, p.createdAt, p.updatedAt, p.latitude, p.longitude)";
 
-  public Optional<PlaceModel> findByNameAndCityAndStateIgnoreCase(@NotBlank String name, @NotBlank String city,
-      @NotBlank String state);
+  @Query("SELECT " + RESPONSE_PROJECTION + " FROM PlaceModel p WHERE p.id = :id")
+  public Optional<PlaceResponseDTO> findResponseById(@Param("id") UUID id);
+
+  @Query("SELECT " + RESPONSE_PROJECTION + " FROM PlaceModel p")
+  public List<PlaceResponseDTO> findAllResponses();
+
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+  @Query(value = "SELECT " + RESPONSE_PROJECTION + " FROM PlaceModel p",
+      countQuery = "SELECT count(p) FROM PlaceModel p")
+  public Page<PlaceResponseDTO> findResponses(Pageable pageable);
+
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+  @Query("SELECT " + RESPONSE_PROJECTION + " FROM PlaceModel p WHERE p.normalizedName = :normalizedName "
+      + "ORDER BY p.name, p.id")
+  public List<PlaceResponseDTO> findResponsesByNormalizedName(@Param("normalizedName") String normalizedName,
+      Pageable pageable);
+
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "COMMIT"))
+  @Query("SELECT p.id FROM PlaceModel p WHERE p.slug = :slug")
+  public Optional<UUID> findIdBySlug(@Param("slug") String slug);
+
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "COMMIT"))
+  @Query("SELECT p.slug FROM PlaceModel p WHERE p.slug IN :slugs AND p.id <> :id")
+  public List<String> findTakenSlugs(@Param("slugs") Collection<String> slugs, @Param("id") UUID id);
+
+  public List<PlaceModel> findAllByNormalizedNameIn(Collection<String> normalizedNames);
+
+  @Query("SELECT p FROM PlaceModel p WHERE (p.updatedAt > :updatedAt "
+      + "OR (p.updatedAt = :updatedAt AND p.id > :id)) AND p.updatedAt <= :until ORDER BY p.updatedAt, p.id")
+  public List<PlaceModel> findChangedAfter(@Param("updatedAt") LocalDateTime updatedAt, @Param("id") UUID id,
+      @Param("until") LocalDateTime until, Pageable pageable);
+
+  @Query(value = "SELECT * FROM tb_places ORDER BY place_name, id_place LIMIT :limit", nativeQuery = true)
+  public List<PlaceModel> findFirstByNameAndId(@Param("limit") int limit);
+
+  @Query(value = "SELECT * FROM tb_places WHERE (place_name, id_place) > (:name, :id) "
+      + "ORDER BY place_name, id_place LIMIT :limit", nativeQuery = true)
+  public List<PlaceModel> findAfterByNameAndId(@Param("name") String name, @Param("id") UUID id,
+      @Param("limit") int limit);
+
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+      @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query("SELECT p FROM PlaceModel p")
+  public Stream<PlaceModel> streamAll();
+
+  @Query(value = """
+      SELECT * FROM tb_places
+       WHERE place_name_normalized LIKE :prefix || '%'
+          OR place_name_normalized % :query
+       ORDER BY (place_name_normalized LIKE :prefix || '%') DESC,
+                similarity(place_name_normalized, :query) DESC,
+                place_name, id_place
+       LIMIT :limit""", nativeQuery = true)
+  public List<PlaceModel> searchByNormalizedName(@Param("query") String query, @Param("prefix") String prefix,
+      @Param("limit") int limit);
+
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+  @Query("SELECT p.key FROM PlaceModel p WHERE p.key IS NOT NULL")
+  public Stream<String> streamAllKeys();
 }
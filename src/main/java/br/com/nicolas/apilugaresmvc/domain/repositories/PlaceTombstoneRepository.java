@@ -0,0 +1,27 @@
+package br.com.nicolas.apilugaresmvc.domain.repositories;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.com.nicolas.apilugaresmvc.domain.entities.PlaceTombstone;
+
+public interface PlaceTombstoneRepository extends JpaRepository<PlaceTombstone, UUID> {
+
+  @Query("SELECT t FROM PlaceTombstone t WHERE (t.deletedAt > :deletedAt "
+      + "OR (t.deletedAt = :deletedAt AND t.id > :id)) AND t.deletedAt <= :until ORDER BY t.deletedAt, t.id")
+  public List<PlaceTombstone> findDeletedAfter(@Param("deletedAt") LocalDateTime deletedAt, @Param("id") UUID id,
+      @Param("until") LocalDateTime until, Pageable pageable);
+
+  @Transactional
+  @Modifying
+  @Query("DELETE FROM PlaceTombstone t WHERE t.deletedAt < :before")
+  public int deleteByDeletedAtBefore(@Param("before") LocalDateTime before);
+}
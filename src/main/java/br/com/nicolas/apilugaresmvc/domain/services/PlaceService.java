@@ -1,36 +1,143 @@
 package br.com.nicolas.apilugaresmvc.domain.services;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.github.slugify.Slugify;
+import com.google.common.collect.Iterables;
 
+import br.com.nicolas.apilugaresmvc.api.dto.PlaceBatchItemDTO;
+import br.com.nicolas.apilugaresmvc.api.dto.PlaceBatchResponseDTO;
+import br.com.nicolas.apilugaresmvc.api.dto.PlaceNearbyDTO;
+import br.com.nicolas.apilugaresmvc.api.dto.PlacePageDTO;
 import br.com.nicolas.apilugaresmvc.api.dto.PlaceRequestDTO;
 import br.com.nicolas.apilugaresmvc.api.dto.PlaceResponseDTO;
+import br.com.nicolas.apilugaresmvc.api.dto.PlaceStateStatsDTO;
+import br.com.nicolas.apilugaresmvc.api.dto.PlaceStatsDTO;
+import br.com.nicolas.apilugaresmvc.api.dto.PlaceSuggestionDTO;
+import br.com.nicolas.apilugaresmvc.api.dto.PlaceSyncItemDTO;
+import br.com.nicolas.apilugaresmvc.api.dto.PlaceSyncPageDTO;
+import br.com.nicolas.apilugaresmvc.domain.cache.PlaceCache;
 import br.com.nicolas.apilugaresmvc.domain.entities.PlaceModel;
+import br.com.nicolas.apilugaresmvc.domain.entities.PlaceTombstone;
+import br.com.nicolas.apilugaresmvc.domain.events.PlaceChangedEvent;
 import br.com.nicolas.apilugaresmvc.domain.exceptions.DataIntegrityViolationException;
+import br.com.nicolas.apilugaresmvc.domain.exceptions.DuplicatePlaceException;
+import br.com.nicolas.apilugaresmvc.domain.exceptions.InvalidCoordinatesException;
+import br.com.nicolas.apilugaresmvc.domain.exceptions.InvalidCursorException;
 import br.com.nicolas.apilugaresmvc.domain.exceptions.PlaceNotFoundException;
+import br.com.nicolas.apilugaresmvc.domain.exceptions.SyncExpiredException;
+import br.com.nicolas.apilugaresmvc.domain.indexes.PlaceGeoIndex;
+import br.com.nicolas.apilugaresmvc.domain.indexes.PlaceKeyFilter;
+import br.com.nicolas.apilugaresmvc.domain.indexes.PlaceSlugIndex;
+import br.com.nicolas.apilugaresmvc.domain.indexes.PlaceStatsIndex;
+import br.com.nicolas.apilugaresmvc.domain.indexes.PlaceSuggestionIndex;
+import br.com.nicolas.apilugaresmvc.domain.pagination.PlaceCursor;
 import br.com.nicolas.apilugaresmvc.domain.repositories.PlaceRepository;
+import br.com.nicolas.apilugaresmvc.domain.repositories.PlaceTombstoneRepository;
+import br.com.nicolas.apilugaresmvc.domain.utils.TextNormalizer;
 import br.com.nicolas.apilugaresmvc.web.maps.PlaceMapper;
-import jakarta.transaction.Transactional;
+import jakarta.persistence.EntityManager;
 
 @Service
 public class PlaceService {
 
+    private static final int DEFAULT_CURSOR_PAGE_SIZE = 20;
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int EXPORT_CLEAR_INTERVAL = 500;
+    private static final int LOOKUP_CHUNK_SIZE = 1000;
+    private static final int SLUG_SUFFIX_WINDOW = 8;
+    private static final int MAX_SLUG_ATTEMPTS = 3;
+    private static final String SLUG_CONSTRAINT = "uk_places_slug";
+    private static final int MAX_NAME_RESULTS = 100;
+    private static final int DEFAULT_SEARCH_LIMIT = 10;
+    private static final int MAX_SEARCH_LIMIT = 50;
+    private static final int DEFAULT_SUGGESTION_LIMIT = 10;
+    private static final int MAX_SUGGESTION_LIMIT = 50;
+    private static final double DEFAULT_NEARBY_RADIUS_METERS = 5_000;
+    private static final double MAX_NEARBY_RADIUS_METERS = 50_000;
+    private static final int DEFAULT_NEARBY_LIMIT = 10;
+    private static final int MAX_NEARBY_LIMIT = 100;
+    private static final int DEFAULT_SYNC_PAGE_SIZE = 100;
+    private static final int MAX_SYNC_PAGE_SIZE = 1000;
+    private static final LocalDateTime SYNC_EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final char SYNC_CURSOR_SEPARATOR = '|';
+    private static final UUID MIN_UUID = new UUID(0L, 0L);
+    private static final UUID MAX_UUID = new UUID(-1L, -1L);
+    private static final Comparator<PlaceSyncItemDTO> SYNC_ORDER = Comparator
+            .comparing(PlaceSyncItemDTO::changedAt)
+            .thenComparing(item -> item.id().toString());
+    private static final String INVALID_PLACE_MESSAGE =
+            "Name, state and city must not be blank and latitude and longitude must be informed together";
+    private static final String DUPLICATE_PLACE_MESSAGE = "City in this state already included in our database";
+
     private PlaceRepository placeRepository;
+    private EntityManager entityManager;
+    private ApplicationEventPublisher eventPublisher;
+    private PlaceCache placeCache;
+    private PlaceSuggestionIndex suggestionIndex;
+    private PlaceKeyFilter keyFilter;
+    private PlaceSlugIndex slugIndex;
+    private PlaceGeoIndex geoIndex;
+    private PlaceStatsIndex statsIndex;
+    private PlaceTombstoneRepository tombstoneRepository;
+    private final TransactionTemplate writeTransaction;
+    private final Function<UUID, PlaceResponseDTO> responseLoader;
     private Slugify slg;
 
-    public PlaceService(PlaceRepository placeRepository) {
+    @Value("${api.places.batch-size:50}")
+    private int batchSize = 50;
+
+    @Value("${api.places.tombstones.retention:P30D}")
+    private Duration tombstoneRetention = Duration.ofDays(30);
+
+    @Value("${api.places.sync.safety-lag:PT30S}")
+    private Duration syncSafetyLag = Duration.ofSeconds(30);
+
+    public PlaceService(PlaceRepository placeRepository, EntityManager entityManager,
+            ApplicationEventPublisher eventPublisher, PlaceCache placeCache,
+            PlaceSuggestionIndex suggestionIndex, PlaceKeyFilter keyFilter, PlaceSlugIndex slugIndex,
+            PlaceGeoIndex geoIndex, PlaceStatsIndex statsIndex, PlaceTombstoneRepository tombstoneRepository,
+            PlatformTransactionManager transactionManager) {
         this.placeRepository = placeRepository;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+        this.placeCache = placeCache;
+        this.suggestionIndex = suggestionIndex;
+        this.keyFilter = keyFilter;
+        this.slugIndex = slugIndex;
+        this.geoIndex = geoIndex;
+        this.statsIndex = statsIndex;
+        this.tombstoneRepository = tombstoneRepository;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.responseLoader = key -> placeRepository.findResponseById(key).orElse(null);
         slg = Slugify.builder().build();
     }
 
@@ -39,42 +146,147 @@ public class PlaceService {
         return place.orElseThrow(() -> new PlaceNotFoundException("Place not found in our database"));
     }
 
-    @Transactional
     public PlaceResponseDTO createPlace(PlaceRequestDTO placeRequestDTO) {
-        findByNameAndCityAndStateIgnoreCase(placeRequestDTO);
-        PlaceModel place = new PlaceModel(
-                placeRequestDTO.name(), slg.slugify(placeRequestDTO.name()),
-                placeRequestDTO.city(), placeRequestDTO.state());
-        placeRepository.save(place);
-        return PlaceMapper.fromPlaceToResponse(place);
+        return retryingSlugConflicts(() -> {
+            String slug = new SlugPicker(MIN_UUID)
+                    .pick(placeRequestDTO.name(), placeRequestDTO.city(), placeRequestDTO.state());
+            PlaceModel place = new PlaceModel(
+                    placeRequestDTO.name(), slug, placeRequestDTO.city(), placeRequestDTO.state());
+            place.setLatitude(placeRequestDTO.latitude());
+            place.setLongitude(placeRequestDTO.longitude());
+            saveUnique(place);
+            eventPublisher.publishEvent(PlaceChangedEvent.created(place));
+            return PlaceMapper.fromPlaceToResponse(place);
+        });
+    }
+
+    public PlaceBatchResponseDTO createPlaces(List<PlaceRequestDTO> requests) {
+        return retryingSlugConflicts(() -> createPlacesOnce(requests));
+    }
+
+    private PlaceBatchResponseDTO createPlacesOnce(List<PlaceRequestDTO> requests) {
+        Set<String> normalizedNames = new HashSet<>();
+        for (PlaceRequestDTO request : requests) {
+            if (isValid(request) && keyFilter.mightContain(
+                    PlaceModel.key(request.name(), request.city(), request.state()))) {
+                normalizedNames.add(TextNormalizer.normalize(request.name()));
+            }
+        }
+
+        Set<String> knownKeys = new HashSet<>();
+        // Chunked so a large batch stays far below PostgreSQL's 32767 bind parameter limit.
+        for (List<String> chunk : Iterables.partition(normalizedNames, LOOKUP_CHUNK_SIZE)) {
+            for (PlaceModel place : placeRepository.findAllByNormalizedNameIn(chunk)) {
+                knownKeys.add(PlaceModel.key(place.getName(), place.getCity(), place.getState()));
+            }
+        }
+
+        SlugPicker slugs = new SlugPicker(MIN_UUID);
+        List<String> firstSlugs = new ArrayList<>();
+        for (PlaceRequestDTO request : requests) {
+            if (isValid(request)) {
+                firstSlugs.addAll(slugs.firstChoices(request.name(), request.city(), request.state()));
+            }
+        }
+        slugs.lookUp(firstSlugs);
+
+        List<PlaceBatchItemDTO> items = new ArrayList<>(requests.size());
+        List<PlaceModel> created = new ArrayList<>();
+        int conflicts = 0;
+        int invalid = 0;
+        for (int i = 0; i < requests.size(); i++) {
+            PlaceRequestDTO request = requests.get(i);
+            if (!isValid(request)) {
+                items.add(PlaceBatchItemDTO.invalid(i, INVALID_PLACE_MESSAGE));
+                invalid++;
+                continue;
+            }
+            if (!knownKeys.add(PlaceModel.key(request.name(), request.city(), request.state()))) {
+                items.add(PlaceBatchItemDTO.conflict(i, DUPLICATE_PLACE_MESSAGE));
+                conflicts++;
+                continue;
+            }
+
+            String slug = slugs.pick(request.name(), request.city(), request.state());
+            PlaceModel place = new PlaceModel(request.name(), slug, request.city(), request.state());
+            place.setLatitude(request.latitude());
+            place.setLongitude(request.longitude());
+            placeRepository.save(place);
+            created.add(place);
+            items.add(PlaceBatchItemDTO.created(i, PlaceMapper.fromPlaceToResponse(place)));
+
+            if (created.size() % batchSize == 0) {
+                flushBatch();
+            }
+        }
+        flushBatch();
+
+        created.forEach(place -> eventPublisher.publishEvent(PlaceChangedEvent.created(place)));
+        return new PlaceBatchResponseDTO(created.size(), conflicts, invalid, items);
     }
 
-    @Transactional
     public PlaceResponseDTO editPlace(UUID id, PlaceRequestDTO placeRequestDTO) {
-        findByNameAndCityAndStateIgnoreCase(placeRequestDTO);
-        PlaceModel place = findById(id);
-        place.setName(placeRequestDTO.name());
-        place.setSlug(slg.slugify(placeRequestDTO.name()));
-        placeRepository.save(place);
-        return PlaceMapper.fromPlaceToResponse(place);
+        return retryingSlugConflicts(() -> {
+            PlaceModel place = findById(id);
+            PlaceModel before = place.snapshot();
+            place.setSlug(new SlugPicker(id).pick(placeRequestDTO.name(), place.getCity(), place.getState()));
+            place.setName(placeRequestDTO.name());
+            if (placeRequestDTO.latitude() != null && placeRequestDTO.longitude() != null) {
+                place.setLatitude(placeRequestDTO.latitude());
+                place.setLongitude(placeRequestDTO.longitude());
+            }
+            saveUnique(place);
+            placeCache.evict(id);
+            eventPublisher.publishEvent(PlaceChangedEvent.updated(before, place));
+            return PlaceMapper.fromPlaceToResponse(place);
+        });
     }
 
     @Transactional
     public String deletePlace(UUID id) {
         PlaceModel place = findById(id);
         placeRepository.delete(place);
+        tombstoneRepository.save(new PlaceTombstone(id, LocalDateTime.now()));
+        placeCache.evict(id);
+        eventPublisher.publishEvent(PlaceChangedEvent.deleted(place));
         return "Place deleted successfully";
     }
 
     public PlaceResponseDTO getPlaceById(UUID id) {
-        PlaceModel place = findById(id);
-        return PlaceMapper.fromPlaceToResponse(place);
+        PlaceResponseDTO place = placeCache.get(id, responseLoader);
+        if (place == null) {
+            throw new PlaceNotFoundException("Place not found in our database");
+        }
+        return place;
     }
 
+    public PlaceResponseDTO getPlaceBySlug(String slug) {
+        UUID id = slugIndex.resolve(slug)
+                .or(() -> placeRepository.findIdBySlug(slug))
+                .orElseThrow(() -> new PlaceNotFoundException("Place not found in our database"));
+        return getPlaceById(id);
+    }
+
+    @Transactional(readOnly = true)
     public List<PlaceResponseDTO> getAllPlaces() {
-        return placeRepository.findAll().stream().map(PlaceMapper::fromPlaceToResponse).collect(Collectors.toList());
+        return placeRepository.findAllResponses();
+    }
+
+    @Transactional(readOnly = true)
+    public void exportPlaces(Consumer<PlaceResponseDTO> consumer) {
+        try (Stream<PlaceModel> places = placeRepository.streamAll()) {
+            Iterator<PlaceModel> iterator = places.iterator();
+            int exported = 0;
+            while (iterator.hasNext()) {
+                consumer.accept(PlaceMapper.fromPlaceToResponse(iterator.next()));
+                if (++exported % EXPORT_CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
     }
 
+    @Transactional(readOnly = true)
     public List<PlaceResponseDTO> getPlacesByPage(Integer page, Integer qtyUsers) {
         if (qtyUsers >= 5 || qtyUsers <= 0 || qtyUsers == null) {
             qtyUsers = 5;
@@ -84,31 +296,263 @@ public class PlaceService {
         }
 
         Pageable pageRequest = PageRequest.of(page, qtyUsers, Sort.by("id"));
-        Page<PlaceModel> placePage = placeRepository.findAll(pageRequest);
+        Page<PlaceResponseDTO> placePage = placeRepository.findResponses(pageRequest);
 
         if (placePage == null || placePage.isEmpty()) {
             return Collections.emptyList();
         }
 
-        return placePage
+        return placePage.getContent();
+    }
+
+    @Transactional(readOnly = true)
+    public PlacePageDTO getPlacesAfter(String cursor, Integer size) {
+        if (size == null || size <= 0 || size > MAX_CURSOR_PAGE_SIZE) {
+            size = DEFAULT_CURSOR_PAGE_SIZE;
+        }
+
+        List<PlaceModel> places;
+        if (cursor == null || cursor.isBlank()) {
+            places = placeRepository.findFirstByNameAndId(size);
+        } else {
+            PlaceCursor after = PlaceCursor.decode(cursor);
+            places = placeRepository.findAfterByNameAndId(after.key(), after.id(), size);
+        }
+
+        String nextCursor = null;
+        if (places.size() == size) {
+            PlaceModel last = places.get(places.size() - 1);
+            nextCursor = new PlaceCursor(last.getName(), last.getId()).encode();
+        }
+
+        return new PlacePageDTO(places.stream().map(PlaceMapper::fromPlaceToResponse).toList(), nextCursor);
+    }
+
+    @Transactional(readOnly = true)
+    public PlaceSyncPageDTO getChangesSince(LocalDateTime since, String cursor, Integer size) {
+        if (size == null || size <= 0 || size > MAX_SYNC_PAGE_SIZE) {
+            size = DEFAULT_SYNC_PAGE_SIZE;
+        }
+
+        // Change times are taken before commit, so a write still in flight can later appear behind a cursor that
+        // already moved past it. Only changes older than the safety lag are served; newer ones wait for the next poll.
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime horizon = now.minus(syncSafetyLag);
+        LocalDateTime afterTime;
+        UUID afterId;
+        LocalDateTime currentSince;
+        if (cursor != null && !cursor.isBlank()) {
+            PlaceCursor after = PlaceCursor.decode(cursor);
+            int separator = after.key().indexOf(SYNC_CURSOR_SEPARATOR);
+            try {
+                afterTime = LocalDateTime.parse(after.key().substring(0, separator));
+                currentSince = LocalDateTime.parse(after.key().substring(separator + 1));
+            } catch (DateTimeParseException | IndexOutOfBoundsException e) {
+                throw new InvalidCursorException("Invalid pagination cursor");
+            }
+            afterId = after.id();
+        } else if (since != null) {
+            afterTime = since;
+            afterId = MAX_UUID;
+            currentSince = since;
+        } else {
+            afterTime = SYNC_EPOCH;
+            afterId = MIN_UUID;
+            currentSince = horizon;
+        }
+        if (currentSince.isBefore(now.minus(tombstoneRetention))) {
+            throw new SyncExpiredException("Deletions older than " + tombstoneRetention
+                    + " are no longer tracked, a full sync is required");
+        }
+
+        Pageable pageRequest = PageRequest.of(0, size + 1);
+        List<PlaceSyncItemDTO> changes = new ArrayList<>();
+        for (PlaceModel place : placeRepository.findChangedAfter(afterTime, afterId, horizon, pageRequest)) {
+            changes.add(PlaceSyncItemDTO.changed(
+                    place.getId(), PlaceMapper.fromPlaceToResponse(place), place.getUpdatedAt()));
+        }
+        for (PlaceTombstone tombstone : tombstoneRepository.findDeletedAfter(afterTime, afterId, horizon,
+                pageRequest)) {
+            changes.add(PlaceSyncItemDTO.deleted(tombstone.getId(), tombstone.getDeletedAt()));
+        }
+        changes.sort(SYNC_ORDER);
+
+        boolean hasMore = changes.size() > size;
+        List<PlaceSyncItemDTO> page = hasMore ? List.copyOf(changes.subList(0, size)) : changes;
+        if (!page.isEmpty()) {
+            afterTime = page.get(page.size() - 1).changedAt();
+            afterId = page.get(page.size() - 1).id();
+        }
+        // The cursor remembers since when the client has been catching up; once a page drains the feed the client
+        // is current up to the horizon. A cursor whose mark is older than the tombstone retention may have missed
+        // purged deletions and is refused like an old "ts".
+        LocalDateTime nextSince = hasMore ? currentSince : horizon;
+        PlaceCursor next = new PlaceCursor(afterTime.toString() + SYNC_CURSOR_SEPARATOR + nextSince, afterId);
+        return new PlaceSyncPageDTO(page, next.encode(), hasMore);
+    }
+
+    @Transactional(readOnly = true)
+    public List<PlaceResponseDTO> getPlaceByName(String name) {
+        List<PlaceResponseDTO> places = placeRepository.findResponsesByNormalizedName(
+                TextNormalizer.normalize(name), PageRequest.of(0, MAX_NAME_RESULTS));
+
+        if (places.isEmpty()) {
+            throw new PlaceNotFoundException("There isn't any places with that name in our database");
+        }
+
+        return places;
+    }
+
+    @Transactional(readOnly = true)
+    public List<PlaceResponseDTO> searchPlaces(String query, Integer limit) {
+        String normalizedQuery = TextNormalizer.normalize(query);
+        if (normalizedQuery == null || normalizedQuery.isEmpty()) {
+            return Collections.emptyList();
+        }
+        if (limit == null || limit <= 0 || limit > MAX_SEARCH_LIMIT) {
+            limit = DEFAULT_SEARCH_LIMIT;
+        }
+
+        return placeRepository
+                .searchByNormalizedName(normalizedQuery, TextNormalizer.escapeLike(normalizedQuery), limit)
+                .stream()
                 .map(PlaceMapper::fromPlaceToResponse)
                 .toList();
     }
 
-    public List<PlaceResponseDTO> getPlaceByName(String name) {
-        List<PlaceModel> place = placeRepository
-                .findAllByNameIgnoreCase(name)
-                .orElseThrow(() -> new PlaceNotFoundException("There isn't any places with that name in our database"));
+    public List<PlaceSuggestionDTO> suggestPlaces(String query, String city, String state, Integer limit) {
+        if (limit == null || limit <= 0 || limit > MAX_SUGGESTION_LIMIT) {
+            limit = DEFAULT_SUGGESTION_LIMIT;
+        }
+        return suggestionIndex.suggest(query, city, state, limit);
+    }
+
+    public List<PlaceNearbyDTO> nearbyPlaces(Double latitude, Double longitude, Double radius, Integer limit) {
+        if (latitude == null || longitude == null || latitude < -90 || latitude > 90
+                || longitude < -180 || longitude > 180) {
+            throw new InvalidCoordinatesException("lat must be between -90 and 90 and lon between -180 and 180");
+        }
+        if (radius == null || radius <= 0) {
+            radius = DEFAULT_NEARBY_RADIUS_METERS;
+        }
+        radius = Math.min(radius, MAX_NEARBY_RADIUS_METERS);
+        if (limit == null || limit <= 0 || limit > MAX_NEARBY_LIMIT) {
+            limit = DEFAULT_NEARBY_LIMIT;
+        }
+        return geoIndex.nearest(latitude, longitude, radius, limit);
+    }
+
+    public PlaceStatsDTO getStats() {
+        return statsIndex.stats();
+    }
 
-        return place.stream().map(PlaceMapper::fromPlaceToResponse).collect(Collectors.toList());
+    public PlaceStateStatsDTO getStateStats(String state) {
+        return statsIndex.stateStats(state)
+                .orElseThrow(() -> new PlaceNotFoundException("There isn't any places in that state in our database"));
     }
 
-    public void findByNameAndCityAndStateIgnoreCase(PlaceRequestDTO placeRequestDTO) {
-        var sameNameCityState = placeRepository.findByNameAndCityAndStateIgnoreCase(
-                placeRequestDTO.name(), placeRequestDTO.city(), placeRequestDTO.state());
+    private static boolean isValid(PlaceRequestDTO request) {
+        return request != null && request.name() != null && !request.name().isBlank()
+                && request.city() != null && !request.city().isBlank()
+                && request.state() != null && !request.state().isBlank()
+                && request.isLocationComplete();
+    }
+
+    // A concurrent write can take the picked slug between the lookup and the insert. PostgreSQL aborts the
+    // transaction on the violation, so each attempt runs in its own transaction and picks the slug again.
+    private <T> T retryingSlugConflicts(Supplier<T> write) {
+        for (int attempt = 1;; attempt++) {
+            try {
+                return writeTransaction.execute(status -> write.get());
+            } catch (org.springframework.dao.DataIntegrityViolationException e) {
+                if (!violates(e, SLUG_CONSTRAINT)) {
+                    throw e;
+                }
+                if (attempt == MAX_SLUG_ATTEMPTS) {
+                    throw new DataIntegrityViolationException("Place slug was taken concurrently, please retry");
+                }
+            }
+        }
+    }
+
+    private static boolean violates(org.springframework.dao.DataIntegrityViolationException e, String constraint) {
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                return constraint.equalsIgnoreCase(violation.getConstraintName());
+            }
+        }
+        return false;
+    }
+
+    private void saveUnique(PlaceModel place) {
+        try {
+            placeRepository.saveAndFlush(place);
+        } catch (org.springframework.dao.DataIntegrityViolationException e) {
+            if (violates(e, SLUG_CONSTRAINT)) {
+                throw e;
+            }
+            throw new DuplicatePlaceException(DUPLICATE_PLACE_MESSAGE);
+        }
+    }
+
+    private void flushBatch() {
+        try {
+            placeRepository.flush();
+        } catch (org.springframework.dao.DataIntegrityViolationException e) {
+            if (violates(e, SLUG_CONSTRAINT)) {
+                throw e;
+            }
+            throw new DuplicatePlaceException("Batch conflicts with places created concurrently, please retry");
+        }
+        entityManager.clear();
+    }
+
+    /**
+     * Picks free slugs for one write: the name, then the name qualified by city and state, then numbered suffixes.
+     * Candidates are checked against the database a window at a time with a single IN query, and every slug handed
+     * out is reserved so the places of a batch never share one.
+     */
+    private final class SlugPicker {
+
+        private final UUID owner;
+        private final Set<String> checked = new HashSet<>();
+        private final Set<String> taken = new HashSet<>();
+
+        private SlugPicker(UUID owner) {
+            this.owner = owner;
+        }
+
+        private List<String> firstChoices(String name, String city, String state) {
+            return List.of(slg.slugify(name), slg.slugify(name + " " + city + " " + state));
+        }
+
+        private List<String> suffixed(String qualifiedSlug, int firstSuffix) {
+            List<String> candidates = new ArrayList<>(SLUG_SUFFIX_WINDOW);
+            for (int suffix = firstSuffix; suffix < firstSuffix + SLUG_SUFFIX_WINDOW; suffix++) {
+                candidates.add(qualifiedSlug + "-" + suffix);
+            }
+            return candidates;
+        }
+
+        private void lookUp(Collection<String> slugs) {
+            List<String> unchecked = slugs.stream().filter(checked::add).toList();
+            for (List<String> chunk : Iterables.partition(unchecked, LOOKUP_CHUNK_SIZE)) {
+                taken.addAll(placeRepository.findTakenSlugs(chunk, owner));
+            }
+        }
 
-        if (sameNameCityState.isPresent()) {
-            throw new DataIntegrityViolationException("City in this state already included in our database");
+        private String pick(String name, String city, String state) {
+            List<String> candidates = firstChoices(name, city, state);
+            String qualifiedSlug = candidates.get(1);
+            for (int suffix = 2;; suffix += SLUG_SUFFIX_WINDOW) {
+                lookUp(candidates);
+                for (String slug : candidates) {
+                    if (taken.add(slug)) {
+                        return slug;
+                    }
+                }
+                candidates = suffixed(qualifiedSlug, suffix);
+            }
         }
     }
 
@@ -4,7 +4,7 @@ import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import br.com.nicolas.apilugaresmvc.api.dto.RegisterDTO;
@@ -13,6 +13,7 @@ import br.com.nicolas.apilugaresmvc.domain.entities.enums.UserRole;
 import br.com.nicolas.apilugaresmvc.domain.exceptions.DataIntegrityViolationException;
 import br.com.nicolas.apilugaresmvc.domain.exceptions.UserNotFoundException;
 import br.com.nicolas.apilugaresmvc.domain.repositories.UserRepository;
+import br.com.nicolas.apilugaresmvc.security.PrincipalCache;
 import jakarta.transaction.Transactional;
 
 @Service
@@ -21,6 +22,12 @@ public class UserService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
     public UserDetails findByUsername(String username) {
         return this.userRepository
                 .findByUsername(username)
@@ -40,7 +47,7 @@ public class UserService {
         }
 
         UserModel newUser = new UserModel(request.username(), request.password(), UserRole.USER);
-        newUser.setPassword(new BCryptPasswordEncoder().encode(newUser.getPassword()));
+        newUser.setPassword(passwordEncoder.encode(newUser.getPassword()));
 
         return this.userRepository.save(newUser);
     }
@@ -49,7 +56,8 @@ public class UserService {
     public UserModel updateUser(UUID id, String password) {
         UserModel updatedUser = findById(id);
 
-        updatedUser.setPassword(new BCryptPasswordEncoder().encode(password));
+        updatedUser.setPassword(passwordEncoder.encode(password));
+        principalCache.evict(updatedUser.getUsername());
 
         return this.userRepository.save(updatedUser);
     }
@@ -58,5 +66,6 @@ public class UserService {
     public void deleteUser(UUID id) {
         UserModel user = findById(id);
         this.userRepository.delete(user);
+        principalCache.evict(user.getUsername());
     }
 }
@@ -0,0 +1,34 @@
+package br.com.nicolas.apilugaresmvc.domain.sync;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import br.com.nicolas.apilugaresmvc.domain.repositories.PlaceTombstoneRepository;
+
+@Component
+public class PlaceTombstonePurger {
+
+  private static final Logger log = LoggerFactory.getLogger(PlaceTombstonePurger.class);
+
+  private final PlaceTombstoneRepository tombstoneRepository;
+  private final Duration retention;
+
+  public PlaceTombstonePurger(PlaceTombstoneRepository tombstoneRepository,
+      @Value("${api.places.tombstones.retention:P30D}") Duration retention) {
+    this.tombstoneRepository = tombstoneRepository;
+    this.retention = retention;
+  }
+
+  @Scheduled(initialDelayString = "${api.places.tombstones.purge-interval:PT6H}",
+      fixedDelayString = "${api.places.tombstones.purge-interval:PT6H}")
+  public void purge() {
+    int purged = tombstoneRepository.deleteByDeletedAtBefore(LocalDateTime.now().minus(retention));
+    log.info("Purged {} place tombstones older than {}", purged, retention);
+  }
+}
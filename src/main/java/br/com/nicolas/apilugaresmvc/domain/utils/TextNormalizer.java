@@ -0,0 +1,27 @@
+package br.com.nicolas.apilugaresmvc.domain.utils;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+public final class TextNormalizer {
+
+  private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+  private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+  private TextNormalizer() {
+  }
+
+  public static String normalize(String text) {
+    if (text == null) {
+      return null;
+    }
+    String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+    String stripped = DIACRITICS.matcher(decomposed).replaceAll("");
+    return WHITESPACE.matcher(stripped.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+  }
+
+  public static String escapeLike(String text) {
+    return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+  }
+}
@@ -2,13 +2,18 @@ package br.com.nicolas.apilugaresmvc.resources.exceptions;
 
 import java.time.LocalDateTime;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
 import br.com.nicolas.apilugaresmvc.domain.exceptions.DataIntegrityViolationException;
+import br.com.nicolas.apilugaresmvc.domain.exceptions.InvalidCoordinatesException;
+import br.com.nicolas.apilugaresmvc.domain.exceptions.InvalidCursorException;
 import br.com.nicolas.apilugaresmvc.domain.exceptions.PlaceNotFoundException;
+import br.com.nicolas.apilugaresmvc.domain.exceptions.ServiceOverloadedException;
+import br.com.nicolas.apilugaresmvc.domain.exceptions.SyncExpiredException;
 import jakarta.servlet.http.HttpServletRequest;
 
 @ControllerAdvice
@@ -29,4 +34,34 @@ public class ResourceExceptionHandler {
     return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
   }
 
+  @ExceptionHandler(InvalidCursorException.class)
+  public ResponseEntity<StandardError> InvalidCursorException(InvalidCursorException ex, HttpServletRequest request) {
+    StandardError error = new StandardError(
+        LocalDateTime.now(), HttpStatus.BAD_REQUEST.value(), ex.getMessage(), request.getRequestURI());
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+  }
+
+  @ExceptionHandler(InvalidCoordinatesException.class)
+  public ResponseEntity<StandardError> InvalidCoordinatesException(InvalidCoordinatesException ex,
+      HttpServletRequest request) {
+    StandardError error = new StandardError(
+        LocalDateTime.now(), HttpStatus.BAD_REQUEST.value(), ex.getMessage(), request.getRequestURI());
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+  }
+
+  @ExceptionHandler(SyncExpiredException.class)
+  public ResponseEntity<StandardError> SyncExpiredException(SyncExpiredException ex, HttpServletRequest request) {
+    StandardError error = new StandardError(
+        LocalDateTime.now(), HttpStatus.GONE.value(), ex.getMessage(), request.getRequestURI());
+    return ResponseEntity.status(HttpStatus.GONE).body(error);
+  }
+
+  @ExceptionHandler(ServiceOverloadedException.class)
+  public ResponseEntity<StandardError> ServiceOverloadedException(ServiceOverloadedException ex,
+      HttpServletRequest request) {
+    StandardError error = new StandardError(
+        LocalDateTime.now(), HttpStatus.SERVICE_UNAVAILABLE.value(), ex.getMessage(), request.getRequestURI());
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").body(error);
+  }
+
 }
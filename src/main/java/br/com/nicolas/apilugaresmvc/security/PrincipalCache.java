@@ -0,0 +1,69 @@
+package br.com.nicolas.apilugaresmvc.security;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import br.com.nicolas.apilugaresmvc.domain.entities.UserModel;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+@Component
+public class PrincipalCache {
+
+    private final Cache<String, UserModel> principals;
+    private final AtomicLong evictions = new AtomicLong();
+
+    public PrincipalCache(
+            @Value("${api.security.principal-cache.max-size:10000}") long maxSize,
+            @Value("${api.security.principal-cache.ttl:5m}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, principals, "principals");
+    }
+
+    // Loaded outside Caffeine's compute so the JDBC call never runs under a map bin lock, see PlaceCache.
+    public Optional<UserModel> get(String username, Function<String, Optional<UserModel>> loader) {
+        UserModel cached = principals.getIfPresent(username);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        long generation = evictions.get();
+        Optional<UserModel> loaded = loader.apply(username);
+        if (loaded.isPresent() && evictions.get() == generation) {
+            principals.put(username, loaded.get());
+            if (evictions.get() != generation) {
+                principals.asMap().remove(username, loaded.get());
+            }
+        }
+        return loaded;
+    }
+
+    public void evict(String username) {
+        evictions.incrementAndGet();
+        principals.invalidate(username);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictions.incrementAndGet();
+                    principals.invalidate(username);
+                }
+            });
+        }
+    }
+}
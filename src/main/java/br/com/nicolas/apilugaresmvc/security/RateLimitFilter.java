@@ -0,0 +1,242 @@
+package br.com.nicolas.apilugaresmvc.security;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import br.com.nicolas.apilugaresmvc.resources.exceptions.StandardError;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String PROPERTY_PREFIX = "api.rate-limit.";
+
+    private final boolean enabled;
+    private final Map<RouteClass, Limit> limits = new EnumMap<>(RouteClass.class);
+    private final Cache<String, TokenBucket> buckets;
+    private final Semaphore inFlight;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final TokenService tokenService;
+
+    public RateLimitFilter(Environment environment, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+            TokenService tokenService) {
+        this.enabled = environment.getProperty(PROPERTY_PREFIX + "enabled", Boolean.class, true);
+        for (RouteClass routeClass : RouteClass.values()) {
+            String prefix = PROPERTY_PREFIX + routeClass.property + ".";
+            limits.put(routeClass, new Limit(
+                    environment.getProperty(prefix + "capacity", Long.class, routeClass.capacity),
+                    environment.getProperty(prefix + "refill-per-second", Double.class, routeClass.refillPerSecond)));
+        }
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(environment.getProperty(PROPERTY_PREFIX + "max-buckets", Long.class, 100_000L))
+                .expireAfterAccess(environment.getProperty(PROPERTY_PREFIX + "idle-timeout", Duration.class,
+                        Duration.ofMinutes(10)))
+                .build();
+        int maxInFlight = environment.getProperty(PROPERTY_PREFIX + "max-in-flight", Integer.class, 1000);
+        this.inFlight = maxInFlight > 0 ? new Semaphore(maxInFlight) : null;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.tokenService = tokenService;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RouteClass routeClass = RouteClass.of(request);
+        TokenBucket ipBucket = bucket(routeClass, "ip:" + request.getRemoteAddr());
+        TokenBucket userBucket = null;
+        String token = recoverToken(request);
+        if (token != null && routeClass != RouteClass.LOGIN) {
+            // Keyed by the verified subject, so every token of a user shares one bucket and unverifiable tokens
+            // cannot fill the bucket cache; those requests are still limited per address and rejected downstream.
+            String username = tokenService.validateToken(token);
+            if (username != null && !username.isEmpty()) {
+                userBucket = bucket(routeClass, "user:" + username);
+            }
+        }
+
+        long waitNanos = consume(ipBucket, userBucket);
+        if (waitNanos > 0) {
+            long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+            reject(request, response, routeClass, HttpStatus.TOO_MANY_REQUESTS, retryAfter,
+                    "Too many requests, please retry later");
+            return;
+        }
+
+        if (inFlight != null && !inFlight.tryAcquire()) {
+            reject(request, response, routeClass, HttpStatus.SERVICE_UNAVAILABLE, 1,
+                    "Server is overloaded, please retry later");
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (inFlight != null) {
+                inFlight.release();
+            }
+        }
+    }
+
+    private TokenBucket bucket(RouteClass routeClass, String client) {
+        Limit limit = limits.get(routeClass);
+        return buckets.get(routeClass.property + "|" + client,
+                key -> new TokenBucket(limit.capacity(), limit.refillPerSecond()));
+    }
+
+    // Both buckets are checked before either is charged, so a request rejected by one does not spend a token of
+    // the other.
+    private static long consume(TokenBucket ipBucket, TokenBucket userBucket) {
+        long now = System.nanoTime();
+        long waitNanos = ipBucket.waitNanos(now);
+        if (userBucket != null) {
+            waitNanos = Math.max(waitNanos, userBucket.waitNanos(now));
+        }
+        if (waitNanos > 0) {
+            return waitNanos;
+        }
+
+        waitNanos = ipBucket.tryConsume(now);
+        if (waitNanos > 0 || userBucket == null) {
+            return waitNanos;
+        }
+        waitNanos = userBucket.tryConsume(now);
+        if (waitNanos > 0) {
+            ipBucket.refund();
+        }
+        return waitNanos;
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, RouteClass routeClass,
+            HttpStatus status, long retryAfterSeconds, String message) throws IOException {
+        meterRegistry.counter("http.server.requests.rejected",
+                "route", routeClass.property, "status", String.valueOf(status.value())).increment();
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                new StandardError(LocalDateTime.now(), status.value(), message, request.getRequestURI()));
+    }
+
+    private String recoverToken(HttpServletRequest request) {
+        String authHeader = request.getHeader("Authorization");
+
+        if (authHeader == null) {
+            return null;
+        }
+
+        return authHeader.replace("Bearer ", "");
+    }
+
+    private enum RouteClass {
+        LOGIN("login", 10, 1),
+        LISTS("lists", 5, 1),
+        WRITES("writes", 20, 10),
+        READS("reads", 100, 50);
+
+        private final String property;
+        private final long capacity;
+        private final double refillPerSecond;
+
+        RouteClass(String property, long capacity, double refillPerSecond) {
+            this.property = property;
+            this.capacity = capacity;
+            this.refillPerSecond = refillPerSecond;
+        }
+
+        static RouteClass of(HttpServletRequest request) {
+            String uri = request.getRequestURI();
+            String method = request.getMethod();
+            if (HttpMethod.POST.matches(method) && uri.equals("/users/login")) {
+                return LOGIN;
+            }
+            if (!HttpMethod.GET.matches(method)) {
+                return WRITES;
+            }
+            if (uri.equals("/places") || uri.equals("/places/") || uri.equals("/places/export")) {
+                return LISTS;
+            }
+            return READS;
+        }
+    }
+
+    private record Limit(long capacity, double refillPerSecond) {
+    }
+
+    private static final class TokenBucket {
+
+        private final double capacity;
+        private final double refillPerNano;
+        private final AtomicReference<State> state;
+
+        TokenBucket(long capacity, double refillPerSecond) {
+            this.capacity = capacity;
+            this.refillPerNano = refillPerSecond / TimeUnit.SECONDS.toNanos(1);
+            this.state = new AtomicReference<>(new State(capacity, System.nanoTime()));
+        }
+
+        long waitNanos(long now) {
+            State current = state.get();
+            return waitNanos(tokens(current, Math.max(now, current.timestamp())));
+        }
+
+        long tryConsume(long now) {
+            while (true) {
+                State current = state.get();
+                long timestamp = Math.max(now, current.timestamp());
+                double tokens = tokens(current, timestamp);
+                if (tokens < 1) {
+                    return waitNanos(tokens);
+                }
+                if (state.compareAndSet(current, new State(tokens - 1, timestamp))) {
+                    return 0;
+                }
+            }
+        }
+
+        void refund() {
+            state.updateAndGet(current -> new State(Math.min(capacity, current.tokens() + 1), current.timestamp()));
+        }
+
+        private double tokens(State current, long timestamp) {
+            return Math.min(capacity, current.tokens() + (timestamp - current.timestamp()) * refillPerNano);
+        }
+
+        private long waitNanos(double tokens) {
+            if (tokens >= 1) {
+                return 0;
+            }
+            return refillPerNano > 0 ? (long) Math.ceil((1 - tokens) / refillPerNano) : Long.MAX_VALUE;
+        }
+
+        private record State(double tokens, long timestamp) {
+        }
+    }
+}
@@ -1,52 +1,139 @@
 package br.com.nicolas.apilugaresmvc.security;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.Base64;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTCreationException;
 import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 
 import br.com.nicolas.apilugaresmvc.domain.entities.UserModel;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 
 @Service
 public class TokenService {
 
-    @Value("${api.security.token.secret}")
-    private String secret;
+    private static final String ISSUER = "places-api";
+
+    private final Algorithm algorithm;
+    private final JWTVerifier verifier;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+    private final Timer cachedTimer;
+    private final Timer verifiedTimer;
+    private final Timer rejectedTimer;
+    private final Timer generationTimer;
+
+    public TokenService(
+            @Value("${api.security.token.secret}") String secret,
+            @Value("${api.security.token.cache-size:10000}") long cacheSize,
+            MeterRegistry meterRegistry) {
+        this.algorithm = Algorithm.HMAC256(secret);
+        this.verifier = JWT.require(algorithm)
+                .withIssuer(ISSUER)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfter(new VerifiedTokenExpiry())
+                .build();
+        this.cachedTimer = validationTimer(meterRegistry, "cached");
+        this.verifiedTimer = validationTimer(meterRegistry, "verified");
+        this.rejectedTimer = validationTimer(meterRegistry, "rejected");
+        this.generationTimer = Timer.builder("security.token.generation")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
 
     public String generateToken(UserModel user) {
+        Timer.Sample sample = Timer.start();
         try {
-            Algorithm algorithm = Algorithm.HMAC256(secret);
             return JWT.create()
-                    .withIssuer("places-api")
+                    .withIssuer(ISSUER)
                     .withSubject(user.getUsername())
                     .withExpiresAt(generateExpirationDate())
                     .sign(algorithm);
         } catch (JWTCreationException e) {
             throw new JWTCreationException("Error while generating token", e);
+        } finally {
+            sample.stop(generationTimer);
         }
     }
 
     public String validateToken(String token) {
+        Timer.Sample sample = Timer.start();
+        String digest = digest(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null && cached.expiresAt().isAfter(Instant.now())) {
+            sample.stop(cachedTimer);
+            return cached.subject();
+        }
+
         try {
-            Algorithm algorithm = Algorithm.HMAC256(secret);
-            return JWT.require(algorithm)
-                    .withIssuer("places-api")
-                    .build()
-                    .verify(token)
-                    .getSubject();
+            DecodedJWT jwt = verifier.verify(token);
+            if (jwt.getExpiresAtAsInstant() != null) {
+                verifiedTokens.put(digest, new VerifiedToken(jwt.getSubject(), jwt.getExpiresAtAsInstant()));
+            }
+            sample.stop(verifiedTimer);
+            return jwt.getSubject();
         } catch (JWTVerificationException e) {
+            sample.stop(rejectedTimer);
             return "";
         }
     }
 
+    private static Timer validationTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("security.token.validation")
+                .tag("result", result)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
     private Instant generateExpirationDate() {
         return LocalDateTime.now().plusHours(2).toInstant(ZoneOffset.of("-03:00"));
     }
+
+    static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record VerifiedToken(String subject, Instant expiresAt) {
+    }
+
+    private static class VerifiedTokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), value.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
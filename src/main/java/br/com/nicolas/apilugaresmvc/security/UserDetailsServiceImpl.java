@@ -2,18 +2,24 @@ package br.com.nicolas.apilugaresmvc.security;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import br.com.nicolas.apilugaresmvc.domain.entities.UserModel;
 import br.com.nicolas.apilugaresmvc.domain.repositories.UserRepository;
 
 @Service
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private PrincipalCache principalCache;
+
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         return userRepository
@@ -21,4 +27,15 @@ public class UserDetailsServiceImpl implements UserDetailsService {
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
     }
 
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        UserModel userModel = userRepository
+                .findByUsername(user.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+        userModel.setPassword(newPassword);
+        principalCache.evict(userModel.getUsername());
+        return userRepository.save(userModel);
+    }
+
 }
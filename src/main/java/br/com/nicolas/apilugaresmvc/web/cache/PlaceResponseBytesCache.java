@@ -0,0 +1,115 @@
+package br.com.nicolas.apilugaresmvc.web.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import br.com.nicolas.apilugaresmvc.api.dto.PlaceResponseDTO;
+import br.com.nicolas.apilugaresmvc.domain.events.PlaceChangedEvent;
+import br.com.nicolas.apilugaresmvc.web.converters.PlaceProtobufCodec;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Serialized GET /places/{id} bodies, one exactly sized byte array per place and format. An entry is only served
+ * while the place cache still holds the very DTO instance it was serialized from, so a body can never outlive the
+ * entry it mirrors even if the eviction below races with a reader.
+ */
+@Component
+public class PlaceResponseBytesCache {
+
+    private static final int ENTRY_OVERHEAD = 64;
+
+    private final Cache<UUID, Entry> responses;
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper cborMapper;
+    private final ObjectMapper smileMapper;
+
+    public PlaceResponseBytesCache(
+            @Value("${api.places.response-cache.max-size:32MB}") DataSize maxSize,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
+        this.responses = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((UUID id, Entry entry) -> entry.weight())
+                .recordStats()
+                .build();
+        this.jsonMapper = objectMapper;
+        this.cborMapper = objectMapper.copyWith(new CBORFactory());
+        this.smileMapper = objectMapper.copyWith(new SmileFactory());
+        CaffeineCacheMetrics.monitor(meterRegistry, responses, "place-responses");
+    }
+
+    public byte[] get(UUID id, PlaceResponseDTO place, PlaceResponseFormat format) {
+        Entry entry = responses.getIfPresent(id);
+        if (entry != null && entry.place == place) {
+            byte[] body = entry.bodies[format.ordinal()];
+            if (body != null) {
+                return body;
+            }
+        }
+        byte[] body = serialize(place, format);
+        responses.put(id, entry != null && entry.place == place
+                ? entry.with(format, body)
+                : new Entry(place, new byte[PlaceResponseFormat.values().length][]).with(format, body));
+        return body;
+    }
+
+    public void evict(UUID id) {
+        responses.invalidate(id);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlaceChanged(PlaceChangedEvent event) {
+        evict(event.id());
+    }
+
+    private byte[] serialize(PlaceResponseDTO place, PlaceResponseFormat format) {
+        try {
+            return switch (format) {
+                case JSON -> jsonMapper.writeValueAsBytes(place);
+                case CBOR -> cborMapper.writeValueAsBytes(place);
+                case SMILE -> smileMapper.writeValueAsBytes(place);
+                case PROTOBUF -> {
+                    ByteArrayOutputStream out = new ByteArrayOutputStream(128);
+                    PlaceProtobufCodec.writePlace(place, out);
+                    yield out.toByteArray();
+                }
+            };
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Immutable so a reader never sees a partially filled array; adding a format replaces the entry.
+    private record Entry(PlaceResponseDTO place, byte[][] bodies) {
+
+        Entry with(PlaceResponseFormat format, byte[] body) {
+            byte[][] copy = bodies.clone();
+            copy[format.ordinal()] = body;
+            return new Entry(place, copy);
+        }
+
+        int weight() {
+            int weight = ENTRY_OVERHEAD;
+            for (byte[] body : bodies) {
+                if (body != null) {
+                    weight += body.length;
+                }
+            }
+            return weight;
+        }
+    }
+}
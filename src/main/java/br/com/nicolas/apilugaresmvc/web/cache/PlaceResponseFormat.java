@@ -0,0 +1,63 @@
+package br.com.nicolas.apilugaresmvc.web.cache;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.util.InvalidMimeTypeException;
+import org.springframework.util.MimeTypeUtils;
+
+import br.com.nicolas.apilugaresmvc.web.converters.PlaceProtobufCodec;
+
+public enum PlaceResponseFormat {
+    JSON(MediaType.APPLICATION_JSON),
+    CBOR(MediaType.APPLICATION_CBOR),
+    SMILE(new MediaType("application", "x-jackson-smile")),
+    PROTOBUF(PlaceProtobufCodec.MEDIA_TYPE);
+
+    private static final PlaceResponseFormat[] FORMATS = values();
+
+    private final MediaType mediaType;
+
+    PlaceResponseFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    public static List<MediaType> supportedMediaTypes() {
+        return List.of(JSON.mediaType, CBOR.mediaType, SMILE.mediaType, PROTOBUF.mediaType);
+    }
+
+    /**
+     * Picks the format for an Accept header: by quality, then by specificity, so "application/*, application/cbor"
+     * selects CBOR. Empty when nothing acceptable is supported or the header cannot be parsed.
+     */
+    public static Optional<PlaceResponseFormat> negotiate(String accept) {
+        if (accept == null || accept.isBlank() || "*/*".equals(accept)
+                || MediaType.APPLICATION_JSON_VALUE.equals(accept)) {
+            return Optional.of(JSON);
+        }
+        List<MediaType> requested;
+        try {
+            requested = MediaType.parseMediaTypes(accept);
+            MimeTypeUtils.sortBySpecificity(requested);
+        } catch (InvalidMediaTypeException | InvalidMimeTypeException e) {
+            return Optional.empty();
+        }
+        for (MediaType mediaType : requested) {
+            if (mediaType.getQualityValue() == 0) {
+                break;
+            }
+            for (PlaceResponseFormat format : FORMATS) {
+                if (mediaType.isCompatibleWith(format.mediaType)) {
+                    return Optional.of(format);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+}
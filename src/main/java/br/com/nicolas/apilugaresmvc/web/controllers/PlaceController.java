@@ -1,33 +1,65 @@
 package br.com.nicolas.apilugaresmvc.web.controllers;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.nicolas.apilugaresmvc.api.dto.PlaceBatchResponseDTO;
+import br.com.nicolas.apilugaresmvc.api.dto.PlaceNearbyDTO;
+import br.com.nicolas.apilugaresmvc.api.dto.PlacePageDTO;
 import br.com.nicolas.apilugaresmvc.api.dto.PlaceRequestDTO;
 import br.com.nicolas.apilugaresmvc.api.dto.PlaceResponseDTO;
+import br.com.nicolas.apilugaresmvc.api.dto.PlaceStateStatsDTO;
+import br.com.nicolas.apilugaresmvc.api.dto.PlaceStatsDTO;
+import br.com.nicolas.apilugaresmvc.api.dto.PlaceSuggestionDTO;
+import br.com.nicolas.apilugaresmvc.api.dto.PlaceSyncPageDTO;
 import br.com.nicolas.apilugaresmvc.domain.services.PlaceService;
+import br.com.nicolas.apilugaresmvc.web.cache.PlaceResponseBytesCache;
+import br.com.nicolas.apilugaresmvc.web.cache.PlaceResponseFormat;
+import br.com.nicolas.apilugaresmvc.web.streams.PlaceChangeStream;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 
 @RestController
 @RequestMapping("/places")
 public class PlaceController {
 
+    private static final int EXPORT_FLUSH_INTERVAL = 1000;
+
     private PlaceService placeService;
+    private ObjectMapper objectMapper;
+    private PlaceChangeStream placeChangeStream;
+    private PlaceResponseBytesCache responseBytesCache;
 
-    public PlaceController(PlaceService placeService) {
+    public PlaceController(PlaceService placeService, ObjectMapper objectMapper, PlaceChangeStream placeChangeStream,
+            PlaceResponseBytesCache responseBytesCache) {
         this.placeService = placeService;
+        this.objectMapper = objectMapper;
+        this.placeChangeStream = placeChangeStream;
+        this.responseBytesCache = responseBytesCache;
     }
 
     @PostMapping
@@ -35,6 +67,11 @@ public class PlaceController {
         return ResponseEntity.status(HttpStatus.CREATED).body(placeService.createPlace(placeRequestDTO));
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<PlaceBatchResponseDTO> createPlaces(@RequestBody List<PlaceRequestDTO> placeRequestDTOs) {
+        return ResponseEntity.status(HttpStatus.MULTI_STATUS).body(placeService.createPlaces(placeRequestDTOs));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<PlaceResponseDTO> editPlace(@PathVariable UUID id,
             @Valid @RequestBody PlaceRequestDTO placeRequestDTO) {
@@ -42,8 +79,16 @@ public class PlaceController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<PlaceResponseDTO> getPlaceById(@PathVariable UUID id) {
-        return ResponseEntity.status(HttpStatus.FOUND).body(placeService.getPlaceById(id));
+    public ResponseEntity<byte[]> getPlaceById(@PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept)
+            throws HttpMediaTypeNotAcceptableException {
+        PlaceResponseFormat format = PlaceResponseFormat.negotiate(accept).orElseThrow(
+                () -> new HttpMediaTypeNotAcceptableException(PlaceResponseFormat.supportedMediaTypes()));
+        byte[] body = responseBytesCache.get(id, placeService.getPlaceById(id), format);
+        return ResponseEntity.status(HttpStatus.FOUND)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                .contentType(format.mediaType())
+                .body(body);
     }
 
     @GetMapping("/{page}/{qtyUsers}")
@@ -52,16 +97,88 @@ public class PlaceController {
         return ResponseEntity.status(HttpStatus.FOUND).body(placeService.getPlacesByPage(page, qtyUsers));
     }
 
+    @GetMapping("/cursor")
+    public ResponseEntity<PlacePageDTO> getPlacesByCursor(
+            @RequestParam(required = false) String after, @RequestParam(required = false) Integer size) {
+        return ResponseEntity.status(HttpStatus.FOUND).body(placeService.getPlacesAfter(after, size));
+    }
+
+    @GetMapping("/since")
+    public ResponseEntity<PlaceSyncPageDTO> getPlacesChangedSince(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime ts,
+            @RequestParam(required = false) String cursor, @RequestParam(required = false) Integer size) {
+        return ResponseEntity.status(HttpStatus.FOUND).body(placeService.getChangesSince(ts, cursor, size));
+    }
+
     @GetMapping
     public ResponseEntity<List<PlaceResponseDTO>> getAllPlaces() {
         return ResponseEntity.status(HttpStatus.FOUND).body(placeService.getAllPlaces());
     }
 
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void exportPlaces(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        OutputStream outputStream = response.getOutputStream();
+        int[] written = { 0 };
+        placeService.exportPlaces(place -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(place));
+                outputStream.write('\n');
+                if (++written[0] % EXPORT_FLUSH_INTERVAL == 0) {
+                    outputStream.flush();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        outputStream.flush();
+    }
+
     @GetMapping("/name")
     public ResponseEntity<List<PlaceResponseDTO>> getPlaceByName(@RequestParam String name) {
         return ResponseEntity.status(HttpStatus.FOUND).body(placeService.getPlaceByName(name));
     }
 
+    @GetMapping("/nearby")
+    public ResponseEntity<List<PlaceNearbyDTO>> getNearbyPlaces(@RequestParam Double lat, @RequestParam Double lon,
+            @RequestParam(required = false) Double radius, @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.status(HttpStatus.FOUND).body(placeService.nearbyPlaces(lat, lon, radius, limit));
+    }
+
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+            @RequestParam(required = false) String since) {
+        return placeChangeStream.subscribe(lastEventId != null ? lastEventId : since);
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<PlaceStatsDTO> getStats() {
+        return ResponseEntity.status(HttpStatus.FOUND).body(placeService.getStats());
+    }
+
+    @GetMapping("/stats/{state}")
+    public ResponseEntity<PlaceStateStatsDTO> getStateStats(@PathVariable String state) {
+        return ResponseEntity.status(HttpStatus.FOUND).body(placeService.getStateStats(state));
+    }
+
+    @GetMapping("/slug/{slug}")
+    public ResponseEntity<PlaceResponseDTO> getPlaceBySlug(@PathVariable String slug) {
+        return ResponseEntity.status(HttpStatus.FOUND).body(placeService.getPlaceBySlug(slug));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<PlaceResponseDTO>> searchPlaces(
+            @RequestParam String q, @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.status(HttpStatus.FOUND).body(placeService.searchPlaces(q, limit));
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<List<PlaceSuggestionDTO>> suggestPlaces(@RequestParam String q,
+            @RequestParam(required = false) String city, @RequestParam(required = false) String state,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(placeService.suggestPlaces(q, city, state, limit));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<String> deletePlace(@PathVariable UUID id) {
         return ResponseEntity.status(HttpStatus.OK).body(placeService.deletePlace(id));
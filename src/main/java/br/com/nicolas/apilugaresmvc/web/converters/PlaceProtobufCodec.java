@@ -0,0 +1,117 @@
+package br.com.nicolas.apilugaresmvc.web.converters;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+
+import org.springframework.http.MediaType;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+
+import br.com.nicolas.apilugaresmvc.api.dto.PlaceResponseDTO;
+
+/**
+ * Writes places in the wire format of {@code src/main/proto/places.proto} straight from the DTOs, without generated
+ * message classes or an intermediate copy of each place.
+ */
+public final class PlaceProtobufCodec {
+
+    public static final MediaType MEDIA_TYPE = new MediaType("application", "x-protobuf");
+
+    private static final int PLACE_NAME = 1;
+    private static final int PLACE_SLUG = 2;
+    private static final int PLACE_CITY = 3;
+    private static final int PLACE_STATE = 4;
+    private static final int PLACE_CREATED_AT = 5;
+    private static final int PLACE_UPDATED_AT = 6;
+    private static final int PLACE_LATITUDE = 7;
+    private static final int PLACE_LONGITUDE = 8;
+    private static final int LIST_PLACES = 1;
+    private static final int LIST_NEXT_CURSOR = 2;
+
+    private PlaceProtobufCodec() {
+    }
+
+    public static void writePlace(PlaceResponseDTO place, OutputStream out) throws IOException {
+        CodedOutputStream output = CodedOutputStream.newInstance(out);
+        writeFields(place, output);
+        output.flush();
+    }
+
+    public static void writePlaces(Collection<PlaceResponseDTO> places, String nextCursor, OutputStream out)
+            throws IOException {
+        CodedOutputStream output = CodedOutputStream.newInstance(out);
+        for (PlaceResponseDTO place : places) {
+            output.writeTag(LIST_PLACES, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+            output.writeUInt32NoTag(fieldsSize(place));
+            writeFields(place, output);
+        }
+        if (nextCursor != null) {
+            output.writeString(LIST_NEXT_CURSOR, nextCursor);
+        }
+        output.flush();
+    }
+
+    private static void writeFields(PlaceResponseDTO place, CodedOutputStream output) throws IOException {
+        if (place.name() != null) {
+            output.writeString(PLACE_NAME, place.name());
+        }
+        if (place.slug() != null) {
+            output.writeString(PLACE_SLUG, place.slug());
+        }
+        if (place.city() != null) {
+            output.writeString(PLACE_CITY, place.city());
+        }
+        if (place.state() != null) {
+            output.writeString(PLACE_STATE, place.state());
+        }
+        if (place.createdAt() != null) {
+            output.writeInt64(PLACE_CREATED_AT, toEpochMicros(place.createdAt()));
+        }
+        if (place.updatedAt() != null) {
+            output.writeInt64(PLACE_UPDATED_AT, toEpochMicros(place.updatedAt()));
+        }
+        if (place.latitude() != null) {
+            output.writeDouble(PLACE_LATITUDE, place.latitude());
+        }
+        if (place.longitude() != null) {
+            output.writeDouble(PLACE_LONGITUDE, place.longitude());
+        }
+    }
+
+    private static int fieldsSize(PlaceResponseDTO place) {
+        int size = 0;
+        if (place.name() != null) {
+            size += CodedOutputStream.computeStringSize(PLACE_NAME, place.name());
+        }
+        if (place.slug() != null) {
+            size += CodedOutputStream.computeStringSize(PLACE_SLUG, place.slug());
+        }
+        if (place.city() != null) {
+            size += CodedOutputStream.computeStringSize(PLACE_CITY, place.city());
+        }
+        if (place.state() != null) {
+            size += CodedOutputStream.computeStringSize(PLACE_STATE, place.state());
+        }
+        if (place.createdAt() != null) {
+            size += CodedOutputStream.computeInt64Size(PLACE_CREATED_AT, toEpochMicros(place.createdAt()));
+        }
+        if (place.updatedAt() != null) {
+            size += CodedOutputStream.computeInt64Size(PLACE_UPDATED_AT, toEpochMicros(place.updatedAt()));
+        }
+        if (place.latitude() != null) {
+            size += CodedOutputStream.computeDoubleSize(PLACE_LATITUDE, place.latitude());
+        }
+        if (place.longitude() != null) {
+            size += CodedOutputStream.computeDoubleSize(PLACE_LONGITUDE, place.longitude());
+        }
+        return size;
+    }
+
+    private static long toEpochMicros(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000;
+    }
+}
@@ -0,0 +1,70 @@
+package br.com.nicolas.apilugaresmvc.web.converters;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Collection;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import br.com.nicolas.apilugaresmvc.api.dto.PlacePageDTO;
+import br.com.nicolas.apilugaresmvc.api.dto.PlaceResponseDTO;
+
+public class PlaceProtobufHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public PlaceProtobufHttpMessageConverter() {
+        super(PlaceProtobufCodec.MEDIA_TYPE);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return PlaceResponseDTO.class == clazz || PlacePageDTO.class == clazz;
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        if (!canWrite(mediaType)) {
+            return false;
+        }
+        if (supports(clazz)) {
+            return true;
+        }
+        return type != null && PlaceResponseDTO.class == ResolvableType.forType(type).asCollection().resolveGeneric(0);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void writeInternal(Object body, Type type, HttpOutputMessage outputMessage) throws IOException {
+        if (body instanceof PlaceResponseDTO place) {
+            PlaceProtobufCodec.writePlace(place, outputMessage.getBody());
+        } else if (body instanceof PlacePageDTO page) {
+            PlaceProtobufCodec.writePlaces(page.places(), page.nextCursor(), outputMessage.getBody());
+        } else {
+            PlaceProtobufCodec.writePlaces((Collection<PlaceResponseDTO>) body, null, outputMessage.getBody());
+        }
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Protobuf request bodies are not supported", inputMessage);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Protobuf request bodies are not supported", inputMessage);
+    }
+}
@@ -8,6 +8,7 @@ public class PlaceMapper {
   public static PlaceResponseDTO fromPlaceToResponse(PlaceModel place) {
     return new PlaceResponseDTO(
         place.getName(), place.getSlug(), place.getCity(),
-        place.getState(), place.getCreatedAt(), place.getUpdatedAt());
+        place.getState(), place.getCreatedAt(), place.getUpdatedAt(),
+        place.getLatitude(), place.getLongitude());
   }
 }
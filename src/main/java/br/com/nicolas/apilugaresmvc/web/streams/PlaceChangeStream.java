@@ -0,0 +1,102 @@
+package br.com.nicolas.apilugaresmvc.web.streams;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import br.com.nicolas.apilugaresmvc.api.dto.PlaceChangeDTO;
+import br.com.nicolas.apilugaresmvc.domain.events.PlaceChangeLog;
+import br.com.nicolas.apilugaresmvc.domain.exceptions.ServiceOverloadedException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Component
+public class PlaceChangeStream {
+
+    private static final int SEND_BATCH_SIZE = 100;
+
+    private final PlaceChangeLog changeLog;
+    private final Duration timeout;
+    private final Duration heartbeat;
+    private final int maxSubscribers;
+    private final AtomicInteger subscribers = new AtomicInteger();
+
+    public PlaceChangeStream(PlaceChangeLog changeLog,
+            @Value("${api.places.changes.timeout:30m}") Duration timeout,
+            @Value("${api.places.changes.heartbeat:15s}") Duration heartbeat,
+            @Value("${api.places.changes.max-subscribers:1000}") int maxSubscribers,
+            MeterRegistry meterRegistry) {
+        this.changeLog = changeLog;
+        this.timeout = timeout;
+        this.heartbeat = heartbeat;
+        this.maxSubscribers = maxSubscribers;
+        Gauge.builder("places.changes.subscribers", subscribers, AtomicInteger::get).register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(String lastEventId) {
+        if (subscribers.incrementAndGet() > maxSubscribers) {
+            subscribers.decrementAndGet();
+            throw new ServiceOverloadedException("Too many change feed subscribers, please retry later");
+        }
+
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        AtomicBoolean open = new AtomicBoolean(true);
+        Runnable close = () -> {
+            if (open.compareAndSet(true, false)) {
+                subscribers.decrementAndGet();
+            }
+        };
+        emitter.onCompletion(close);
+        emitter.onTimeout(close);
+        emitter.onError(error -> close.run());
+
+        OptionalLong resumeFrom = lastEventId != null ? changeLog.sequenceOf(lastEventId) : OptionalLong.empty();
+        boolean resync = lastEventId != null && resumeFrom.isEmpty();
+        long cursor = resumeFrom.orElseGet(changeLog::lastSequence);
+        Thread.ofVirtual().name("place-changes-" + cursor).start(() -> stream(emitter, open, close, cursor, resync));
+        return emitter;
+    }
+
+    private void stream(SseEmitter emitter, AtomicBoolean open, Runnable close, long cursor, boolean resync) {
+        try {
+            if (resync) {
+                sendReset(emitter, cursor);
+            }
+            while (open.get()) {
+                Optional<List<PlaceChangeDTO>> changes = changeLog.readAfter(cursor, SEND_BATCH_SIZE, heartbeat);
+                if (changes.isEmpty()) {
+                    cursor = changeLog.lastSequence();
+                    sendReset(emitter, cursor);
+                } else if (changes.get().isEmpty()) {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                } else {
+                    for (PlaceChangeDTO change : changes.get()) {
+                        emitter.send(SseEmitter.event()
+                                .id(changeLog.eventId(change.sequence()))
+                                .name(change.type().toLowerCase())
+                                .data(change));
+                        cursor = change.sequence();
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            close.run();
+        }
+    }
+
+    private void sendReset(SseEmitter emitter, long cursor) throws IOException {
+        String eventId = changeLog.eventId(cursor);
+        emitter.send(SseEmitter.event().id(eventId).name("reset").data(eventId));
+    }
+}
@@ -0,0 +1,26 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- place_name_normalized and place_key are backfilled by PlaceSchemaInitializer with the application's
+-- TextNormalizer before this script runs, so stored keys always match the ones computed on insert.
+
+CREATE INDEX IF NOT EXISTS idx_places_name_normalized_pattern
+    ON tb_places (place_name_normalized text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_places_name_normalized_trgm
+    ON tb_places USING gin (place_name_normalized gin_trgm_ops);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_places_key ON tb_places (place_key);
+
+UPDATE tb_places p
+   SET place_slug = p.place_slug || '-' || left(p.id_place::text, 8)
+  FROM (SELECT id_place, row_number() OVER (PARTITION BY place_slug ORDER BY created_at, id_place) AS rn
+          FROM tb_places) d
+ WHERE p.id_place = d.id_place
+   AND d.rn > 1;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_places_slug ON tb_places (place_slug);
+
+UPDATE tb_places
+   SET updated_at = coalesce(created_at, now())
+ WHERE updated_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_places_updated_id ON tb_places (updated_at, id_place);
@@ -0,0 +1,89 @@
+package br.com.nicolas.apilugaresmvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import br.com.nicolas.apilugaresmvc.domain.exceptions.ServiceOverloadedException;
+import br.com.nicolas.apilugaresmvc.security.OffloadingPasswordEncoder;
+import br.com.nicolas.apilugaresmvc.security.PasswordHashingExecutor;
+import br.com.nicolas.apilugaresmvc.security.RehashingBCryptPasswordEncoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PasswordEncoderTest {
+
+  private static final String PASSWORD = "password";
+
+  private PasswordHashingExecutor executor;
+
+  private ExecutorService callers;
+
+  @BeforeEach
+  void setUp() {
+    executor = new PasswordHashingExecutor(1, 1, Duration.ofSeconds(5), new SimpleMeterRegistry());
+    callers = Executors.newFixedThreadPool(2);
+  }
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    callers.shutdownNow();
+    executor.shutdown();
+  }
+
+  @Test
+  void mustEncodeAndMatchOnTheHashingExecutor() {
+    var encoder = new OffloadingPasswordEncoder(new RehashingBCryptPasswordEncoder(4), executor);
+
+    String encoded = encoder.encode(PASSWORD);
+
+    assertTrue(encoder.matches(PASSWORD, encoded));
+    assertFalse(encoder.matches("other", encoded));
+  }
+
+  @Test
+  void mustRejectWhenQueueIsFull() throws InterruptedException {
+    CountDownLatch running = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    callers.submit(() -> executor.execute(() -> {
+      running.countDown();
+      await(release);
+      return null;
+    }));
+    running.await();
+    callers.submit(() -> executor.execute(() -> null));
+    Thread.sleep(100);
+
+    var exception = assertThrows(ServiceOverloadedException.class, () -> executor.execute(() -> null));
+
+    assertEquals("Too many login attempts in progress, please retry shortly", exception.getMessage());
+    release.countDown();
+  }
+
+  @Test
+  void mustUpgradeEncodingWhenCostChanges() {
+    String encoded = new BCryptPasswordEncoder(4).encode(PASSWORD);
+
+    assertFalse(new RehashingBCryptPasswordEncoder(4).upgradeEncoding(encoded));
+    assertTrue(new RehashingBCryptPasswordEncoder(5).upgradeEncoding(encoded));
+    assertTrue(new RehashingBCryptPasswordEncoder(10).upgradeEncoding(new BCryptPasswordEncoder(12).encode(PASSWORD)));
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,69 @@
+package br.com.nicolas.apilugaresmvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import br.com.nicolas.apilugaresmvc.domain.entities.PlaceModel;
+import br.com.nicolas.apilugaresmvc.domain.events.PlaceChangeLog;
+import br.com.nicolas.apilugaresmvc.domain.events.PlaceChangedEvent;
+
+class PlaceChangeLogTest {
+
+  private static final UUID RANDOM_UUID = UUID.randomUUID();
+
+  private PlaceChangeLog changeLog;
+
+  private PlaceModel place;
+
+  @BeforeEach
+  void setUp() {
+    changeLog = new PlaceChangeLog(3);
+    place = new PlaceModel(RANDOM_UUID, "Teste Name", "teste-name", "Teste City", "Teste State", null, null);
+  }
+
+  @Test
+  void mustReadChangesAfterSequence() throws InterruptedException {
+    changeLog.onPlaceChanged(PlaceChangedEvent.created(place));
+    changeLog.onPlaceChanged(PlaceChangedEvent.deleted(place));
+
+    var changes = changeLog.readAfter(1, 10, Duration.ZERO).orElseThrow();
+
+    assertEquals(1, changes.size());
+    assertEquals(2, changes.get(0).sequence());
+    assertEquals("DELETED", changes.get(0).type());
+    assertEquals(RANDOM_UUID, changes.get(0).id());
+    assertEquals(null, changes.get(0).place());
+  }
+
+  @Test
+  void mustReturnNoChangesWhenNothingHappenedBeforeTimeout() throws InterruptedException {
+    changeLog.onPlaceChanged(PlaceChangedEvent.created(place));
+
+    assertTrue(changeLog.readAfter(1, 10, Duration.ofMillis(10)).orElseThrow().isEmpty());
+  }
+
+  @Test
+  void mustReportGapWhenSequenceFellOutOfBuffer() throws InterruptedException {
+    for (int i = 0; i < 5; i++) {
+      changeLog.onPlaceChanged(PlaceChangedEvent.created(place));
+    }
+
+    assertTrue(changeLog.readAfter(1, 10, Duration.ZERO).isEmpty());
+    assertEquals(3, changeLog.readAfter(2, 10, Duration.ZERO).orElseThrow().size());
+    assertTrue(changeLog.readAfter(9, 10, Duration.ZERO).isEmpty());
+  }
+
+  @Test
+  void mustResumeOnlyFromEventIdsOfThisRun() {
+    assertEquals(7, changeLog.sequenceOf(changeLog.eventId(7)).orElseThrow());
+    assertTrue(changeLog.sequenceOf(new PlaceChangeLog(3).eventId(7)).isEmpty());
+    assertTrue(changeLog.sequenceOf("7").isEmpty());
+    assertTrue(changeLog.sequenceOf(changeLog.eventId(7) + "x").isEmpty());
+  }
+}
@@ -3,13 +3,20 @@ package br.com.nicolas.apilugaresmvc;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -17,16 +24,34 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedBy;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.nicolas.apilugaresmvc.api.dto.PlaceBatchItemDTO;
+import br.com.nicolas.apilugaresmvc.api.dto.PlaceBatchResponseDTO;
+import br.com.nicolas.apilugaresmvc.api.dto.PlaceNearbyDTO;
+import br.com.nicolas.apilugaresmvc.api.dto.PlacePageDTO;
 import br.com.nicolas.apilugaresmvc.api.dto.PlaceRequestDTO;
 import br.com.nicolas.apilugaresmvc.api.dto.PlaceResponseDTO;
+import br.com.nicolas.apilugaresmvc.api.dto.PlaceStatsDTO;
+import br.com.nicolas.apilugaresmvc.api.dto.PlaceSuggestionDTO;
 import br.com.nicolas.apilugaresmvc.domain.services.PlaceService;
+import br.com.nicolas.apilugaresmvc.web.cache.PlaceResponseBytesCache;
 import br.com.nicolas.apilugaresmvc.web.controllers.PlaceController;
+import br.com.nicolas.apilugaresmvc.web.streams.PlaceChangeStream;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 class PlaceControllerTest {
@@ -53,6 +78,16 @@ class PlaceControllerTest {
   @Mock
   private PlaceService placeService;
 
+  @Spy
+  private ObjectMapper objectMapper = new ObjectMapper();
+
+  @Mock
+  private PlaceChangeStream placeChangeStream;
+
+  @Spy
+  private PlaceResponseBytesCache responseBytesCache = new PlaceResponseBytesCache(
+      DataSize.ofMegabytes(1), new ObjectMapper(), new SimpleMeterRegistry());
+
   private PlaceRequestDTO placeRequestDTO;
 
   private PlaceResponseDTO placeResponseDTO;
@@ -79,6 +114,18 @@ class PlaceControllerTest {
 
   }
 
+  @Test
+  void mustCreatePlacesInBatchResponse() {
+    var batchResponse = new PlaceBatchResponseDTO(1, 0, 0,
+        List.of(PlaceBatchItemDTO.created(0, placeResponseDTO)));
+    when(placeService.createPlaces(List.of(placeRequestDTO))).thenReturn(batchResponse);
+
+    var response = assertDoesNotThrow(() -> placeController.createPlaces(List.of(placeRequestDTO)));
+
+    assertEquals(HttpStatus.MULTI_STATUS, response.getStatusCode());
+    assertEquals(batchResponse, response.getBody());
+  }
+
   @Test
   void mustEditPlaceResponse() {
     when(placeService.editPlace(RANDOM_UUID, placeRequestDTO)).thenReturn(placeResponseDTO);
@@ -103,22 +150,62 @@ class PlaceControllerTest {
   }
 
   @Test
-  void mustGetPlaceByIdResponse() {
+  void mustGetPlaceByIdResponse() throws Exception {
     when(placeService.getPlaceById(RANDOM_UUID)).thenReturn(placeResponseDTO);
 
-    ResponseEntity<PlaceResponseDTO> response = assertDoesNotThrow(() -> placeController.getPlaceById(RANDOM_UUID));
+    ResponseEntity<byte[]> response = assertDoesNotThrow(() -> placeController.getPlaceById(RANDOM_UUID, null));
     assertNotNull(response);
     assertNotNull(response.getBody());
-    assertEquals(ResponseEntity.class, response.getClass());
-    assertEquals(PlaceResponseDTO.class, response.getBody().getClass());
-    assertEquals(ResponseEntity.status(HttpStatus.FOUND).body(placeService.getPlaceById(RANDOM_UUID)), response);
+    assertEquals(HttpStatus.FOUND, response.getStatusCode());
+    assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+    assertEquals(List.of(HttpHeaders.ACCEPT), response.getHeaders().getVary());
+
+    var body = objectMapper.readValue(response.getBody(), PlaceResponseDTO.class);
+    assertEquals(NAME, body.name());
+    assertEquals(SLUG, body.slug());
+    assertEquals(CITY, body.city());
+    assertEquals(STATE, body.state());
+    assertEquals(CREATED_AT, body.createdAt());
+    assertEquals(UPDATED_AT, body.updatedAt());
+  }
 
-    assertEquals(NAME, response.getBody().name());
-    assertEquals(SLUG, response.getBody().slug());
-    assertEquals(CITY, response.getBody().city());
-    assertEquals(STATE, response.getBody().state());
-    assertEquals(CREATED_AT, response.getBody().createdAt());
-    assertEquals(UPDATED_AT, response.getBody().updatedAt());
+  @Test
+  void mustServeCachedPlaceBytesForTheSameDto() throws Exception {
+    when(placeService.getPlaceById(RANDOM_UUID)).thenReturn(placeResponseDTO);
+
+    var first = placeController.getPlaceById(RANDOM_UUID, "application/cbor");
+    var second = placeController.getPlaceById(RANDOM_UUID, "application/cbor;q=0.9, text/html;q=0.1");
+
+    assertEquals(MediaType.APPLICATION_CBOR, first.getHeaders().getContentType());
+    assertSame(first.getBody(), second.getBody());
+
+    when(placeService.getPlaceById(RANDOM_UUID))
+        .thenReturn(new PlaceResponseDTO("Outro Nome", SLUG, CITY, STATE, CREATED_AT, UPDATED_AT));
+
+    var edited = placeController.getPlaceById(RANDOM_UUID, "application/cbor");
+
+    assertNotSame(first.getBody(), edited.getBody());
+  }
+
+  @Test
+  void mustRejectUnsupportedAcceptOnGetPlaceById() {
+    assertThrows(HttpMediaTypeNotAcceptableException.class,
+        () -> placeController.getPlaceById(RANDOM_UUID, "text/html"));
+  }
+
+  @Test
+  void mustRejectMalformedAcceptOnGetPlaceById() {
+    assertThrows(HttpMediaTypeNotAcceptableException.class,
+        () -> placeController.getPlaceById(RANDOM_UUID, "application/"));
+  }
+
+  @Test
+  void mustPreferTheMostSpecificAcceptedFormat() throws Exception {
+    when(placeService.getPlaceById(RANDOM_UUID)).thenReturn(placeResponseDTO);
+
+    var response = placeController.getPlaceById(RANDOM_UUID, "application/*, application/cbor");
+
+    assertEquals(MediaType.APPLICATION_CBOR, response.getHeaders().getContentType());
   }
 
   @Test
@@ -131,6 +218,23 @@ class PlaceControllerTest {
     assertNotNull(response.getBody());
   }
 
+  @Test
+  @SuppressWarnings("unchecked")
+  void mustExportPlacesAsNdjson() throws Exception {
+    doAnswer(invocation -> {
+      Consumer<PlaceResponseDTO> consumer = invocation.getArgument(0);
+      consumer.accept(placeResponseDTO);
+      consumer.accept(placeResponseDTO);
+      return null;
+    }).when(placeService).exportPlaces(any(Consumer.class));
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    placeController.exportPlaces(response);
+
+    String line = objectMapper.writeValueAsString(placeResponseDTO);
+    assertEquals(line + "\n" + line + "\n", response.getContentAsString());
+  }
+
   @Test
   void mustGetPlaceByPage() {
     when(placeService.getPlacesByPage(5, 10)).thenReturn(List.of(placeResponseDTO));
@@ -141,6 +245,17 @@ class PlaceControllerTest {
     assertNotNull(response.getBody());
   }
 
+  @Test
+  void mustGetPlacesByCursor() {
+    when(placeService.getPlacesAfter(null, 10)).thenReturn(new PlacePageDTO(List.of(placeResponseDTO), null));
+
+    var response = assertDoesNotThrow(() -> placeController.getPlacesByCursor(null, 10));
+
+    assertNotNull(response);
+    assertNotNull(response.getBody());
+    assertEquals(List.of(placeResponseDTO), response.getBody().places());
+  }
+
   @Test
   void mustGetPlaceByName() {
     when(placeService.getPlaceByName(NAME)).thenReturn(List.of(placeResponseDTO));
@@ -154,6 +269,71 @@ class PlaceControllerTest {
 
   }
 
+  @Test
+  void mustGetPlaceBySlug() {
+    when(placeService.getPlaceBySlug(SLUG)).thenReturn(placeResponseDTO);
+
+    var response = assertDoesNotThrow(() -> placeController.getPlaceBySlug(SLUG));
+
+    assertNotNull(response);
+    assertEquals(HttpStatus.FOUND, response.getStatusCode());
+    assertEquals(placeResponseDTO, response.getBody());
+  }
+
+  @Test
+  void mustSearchPlaces() {
+    when(placeService.searchPlaces("tes", 5)).thenReturn(List.of(placeResponseDTO));
+
+    var response = assertDoesNotThrow(() -> placeController.searchPlaces("tes", 5));
+
+    assertNotNull(response);
+    assertEquals(List.of(placeResponseDTO), response.getBody());
+  }
+
+  @Test
+  void mustSuggestPlaces() {
+    var suggestion = new PlaceSuggestionDTO(RANDOM_UUID, NAME, SLUG, CITY, STATE);
+    when(placeService.suggestPlaces("tes", CITY, null, 5)).thenReturn(List.of(suggestion));
+
+    var response = assertDoesNotThrow(() -> placeController.suggestPlaces("tes", CITY, null, 5));
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertEquals(List.of(suggestion), response.getBody());
+  }
+
+  @Test
+  void mustStreamChangesFromLastEventId() {
+    var emitter = new SseEmitter();
+    when(placeChangeStream.subscribe("5f1c:42")).thenReturn(emitter);
+
+    var response = placeController.streamChanges("5f1c:42", "5f1c:7");
+
+    assertEquals(emitter, response);
+    verify(placeChangeStream).subscribe("5f1c:42");
+  }
+
+  @Test
+  void mustGetStats() {
+    var stats = new PlaceStatsDTO(1, Map.of(STATE, 1L));
+    when(placeService.getStats()).thenReturn(stats);
+
+    var response = assertDoesNotThrow(() -> placeController.getStats());
+
+    assertEquals(HttpStatus.FOUND, response.getStatusCode());
+    assertEquals(stats, response.getBody());
+  }
+
+  @Test
+  void mustGetNearbyPlaces() {
+    var nearby = new PlaceNearbyDTO(RANDOM_UUID, NAME, SLUG, CITY, STATE, -22.43, -46.95, 120.5);
+    when(placeService.nearbyPlaces(-22.43, -46.95, 1000.0, 5)).thenReturn(List.of(nearby));
+
+    var response = assertDoesNotThrow(() -> placeController.getNearbyPlaces(-22.43, -46.95, 1000.0, 5));
+
+    assertEquals(HttpStatus.FOUND, response.getStatusCode());
+    assertEquals(List.of(nearby), response.getBody());
+  }
+
   @Test
   void mustDeletePlace() {
     when(placeService.deletePlace(RANDOM_UUID)).thenReturn("Place deleted Successfully");
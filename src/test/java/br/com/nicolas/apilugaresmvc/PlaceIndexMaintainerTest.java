@@ -0,0 +1,92 @@
+package br.com.nicolas.apilugaresmvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import br.com.nicolas.apilugaresmvc.domain.entities.PlaceModel;
+import br.com.nicolas.apilugaresmvc.domain.events.PlaceChangedEvent;
+import br.com.nicolas.apilugaresmvc.domain.indexes.PlaceIndexMaintainer;
+import br.com.nicolas.apilugaresmvc.domain.indexes.PlaceSlugIndex;
+import br.com.nicolas.apilugaresmvc.domain.indexes.PlaceStatsIndex;
+import br.com.nicolas.apilugaresmvc.domain.indexes.PlaceStatsReconciler;
+import br.com.nicolas.apilugaresmvc.domain.repositories.PlaceRepository;
+import jakarta.persistence.EntityManager;
+
+class PlaceIndexMaintainerTest {
+
+  private static final String CITY = "Teste City";
+  private static final String STATE = "Teste State";
+
+  private PlaceRepository placeRepository;
+  private PlaceSlugIndex slugIndex;
+  private PlaceStatsIndex statsIndex;
+  private PlaceIndexMaintainer maintainer;
+
+  @BeforeEach
+  void setUp() {
+    placeRepository = mock(PlaceRepository.class);
+    slugIndex = new PlaceSlugIndex();
+    statsIndex = new PlaceStatsIndex();
+    maintainer = new PlaceIndexMaintainer(List.of(slugIndex, statsIndex), placeRepository,
+        mock(EntityManager.class), mock(PlatformTransactionManager.class));
+  }
+
+  @Test
+  void mustKeepServingUntilTheLoadIsComplete() {
+    PlaceModel stale = place("stale");
+    maintainer.onPlaceChanged(PlaceChangedEvent.created(stale));
+    PlaceModel loaded = place("loaded");
+    when(placeRepository.streamAll()).thenReturn(Stream.of(loaded)
+        .peek(place -> assertTrue(slugIndex.resolve("stale").isPresent())));
+
+    maintainer.load();
+
+    assertTrue(slugIndex.resolve("stale").isEmpty());
+    assertEquals(loaded.getId(), slugIndex.resolve("loaded").orElseThrow());
+  }
+
+  @Test
+  void mustReplayChangesCommittedDuringTheLoad() {
+    PlaceModel deleted = place("deleted");
+    PlaceModel created = place("created");
+    PlaceModel kept = place("kept");
+    when(placeRepository.streamAll()).thenReturn(Stream.of(deleted, created, kept).peek(place -> {
+      if (place == kept) {
+        maintainer.onPlaceChanged(PlaceChangedEvent.deleted(deleted));
+        maintainer.onPlaceChanged(PlaceChangedEvent.created(created));
+      }
+    }));
+
+    maintainer.load();
+
+    assertTrue(slugIndex.resolve("deleted").isEmpty());
+    assertEquals(created.getId(), slugIndex.resolve("created").orElseThrow());
+    assertEquals(2, statsIndex.stats().total());
+  }
+
+  @Test
+  void mustCountOnceAPlaceTheScanAlreadySaw() {
+    PlaceModel committed = place("committed");
+    when(placeRepository.streamAll()).thenReturn(Stream.of(committed)
+        .peek(place -> maintainer.onPlaceChanged(PlaceChangedEvent.created(committed))));
+
+    new PlaceStatsReconciler(statsIndex, maintainer).reconcile();
+
+    assertEquals(1, statsIndex.stats().total());
+    assertEquals(0, statsIndex.lastDrift());
+  }
+
+  private static PlaceModel place(String slug) {
+    return new PlaceModel(UUID.randomUUID(), "Place " + slug, slug, CITY, STATE, null, null);
+  }
+}
@@ -0,0 +1,65 @@
+package br.com.nicolas.apilugaresmvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.WireFormat;
+
+import br.com.nicolas.apilugaresmvc.api.dto.PlaceResponseDTO;
+import br.com.nicolas.apilugaresmvc.web.converters.PlaceProtobufCodec;
+
+class PlaceProtobufCodecTest {
+
+  private static final LocalDateTime CREATED_AT = LocalDateTime.of(2023, 7, 26, 22, 35, 41, 720_043_000);
+
+  @Test
+  void mustWritePlaceListInProtoWireFormat() throws IOException {
+    var located = new PlaceResponseDTO("Praça", "praca", "Mogi Mirim", "São Paulo", CREATED_AT, CREATED_AT,
+        -22.43, -46.95);
+    var unlocated = new PlaceResponseDTO("Parque", "parque", "Mogi Mirim", "São Paulo", CREATED_AT, CREATED_AT);
+    var out = new ByteArrayOutputStream();
+
+    PlaceProtobufCodec.writePlaces(List.of(located, unlocated), "next", out);
+
+    var input = CodedInputStream.newInstance(out.toByteArray());
+    assertEquals(tag(1, WireFormat.WIRETYPE_LENGTH_DELIMITED), input.readTag());
+    var first = CodedInputStream.newInstance(input.readByteArray());
+    assertEquals(tag(1, WireFormat.WIRETYPE_LENGTH_DELIMITED), first.readTag());
+    assertEquals("Praça", first.readString());
+    first.skipField(first.readTag());
+    first.skipField(first.readTag());
+    first.skipField(first.readTag());
+    assertEquals(tag(5, WireFormat.WIRETYPE_VARINT), first.readTag());
+    assertEquals(CREATED_AT.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + 720_043, first.readInt64());
+    first.skipField(first.readTag());
+    assertEquals(tag(7, WireFormat.WIRETYPE_FIXED64), first.readTag());
+    assertEquals(-22.43, first.readDouble());
+    assertEquals(tag(8, WireFormat.WIRETYPE_FIXED64), first.readTag());
+    assertEquals(-46.95, first.readDouble());
+    assertTrue(first.isAtEnd());
+
+    assertEquals(tag(1, WireFormat.WIRETYPE_LENGTH_DELIMITED), input.readTag());
+    var second = CodedInputStream.newInstance(input.readByteArray());
+    for (int tag = second.readTag(); tag != 0; tag = second.readTag()) {
+      assertTrue(WireFormat.getTagFieldNumber(tag) <= 6);
+      second.skipField(tag);
+    }
+
+    assertEquals(tag(2, WireFormat.WIRETYPE_LENGTH_DELIMITED), input.readTag());
+    assertEquals("next", input.readString());
+    assertTrue(input.isAtEnd());
+  }
+
+  private static int tag(int fieldNumber, int wireType) {
+    return (fieldNumber << 3) | wireType;
+  }
+}
@@ -3,38 +3,68 @@ package br.com.nicolas.apilugaresmvc;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.sql.SQLException;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedBy;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import com.github.slugify.Slugify;
 
+import br.com.nicolas.apilugaresmvc.api.dto.PlaceBatchItemDTO;
+import br.com.nicolas.apilugaresmvc.api.dto.PlaceNearbyDTO;
 import br.com.nicolas.apilugaresmvc.api.dto.PlaceRequestDTO;
 import br.com.nicolas.apilugaresmvc.api.dto.PlaceResponseDTO;
+import br.com.nicolas.apilugaresmvc.domain.cache.PlaceCache;
 import br.com.nicolas.apilugaresmvc.domain.entities.PlaceModel;
-import br.com.nicolas.apilugaresmvc.domain.exceptions.DataIntegrityViolationException;
+import br.com.nicolas.apilugaresmvc.domain.entities.PlaceTombstone;
+import br.com.nicolas.apilugaresmvc.domain.events.PlaceChangedEvent;
+import br.com.nicolas.apilugaresmvc.domain.exceptions.DuplicatePlaceException;
+import br.com.nicolas.apilugaresmvc.domain.exceptions.InvalidCoordinatesException;
+import br.com.nicolas.apilugaresmvc.domain.exceptions.InvalidCursorException;
 import br.com.nicolas.apilugaresmvc.domain.exceptions.PlaceNotFoundException;
+import br.com.nicolas.apilugaresmvc.domain.exceptions.SyncExpiredException;
+import br.com.nicolas.apilugaresmvc.domain.indexes.PlaceGeoIndex;
+import br.com.nicolas.apilugaresmvc.domain.indexes.PlaceKeyFilter;
+import br.com.nicolas.apilugaresmvc.domain.indexes.PlaceSlugIndex;
+import br.com.nicolas.apilugaresmvc.domain.indexes.PlaceStatsIndex;
+import br.com.nicolas.apilugaresmvc.domain.indexes.PlaceSuggestionIndex;
+import br.com.nicolas.apilugaresmvc.domain.pagination.PlaceCursor;
 import br.com.nicolas.apilugaresmvc.domain.repositories.PlaceRepository;
+import br.com.nicolas.apilugaresmvc.domain.repositories.PlaceTombstoneRepository;
 import br.com.nicolas.apilugaresmvc.domain.services.PlaceService;
 import br.com.nicolas.apilugaresmvc.web.maps.PlaceMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
 
 class PlaceServiceTest {
 
@@ -48,6 +78,36 @@ class PlaceServiceTest {
   @Mock
   private PlaceRepository repository;
 
+  @Mock
+  private EntityManager entityManager;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @Spy
+  private PlaceCache placeCache = new PlaceCache(100, Duration.ofMinutes(10), new SimpleMeterRegistry());
+
+  @Spy
+  private PlaceSuggestionIndex suggestionIndex = new PlaceSuggestionIndex();
+
+  @Spy
+  private PlaceKeyFilter keyFilter = new PlaceKeyFilter(1000, 0.01, new SimpleMeterRegistry());
+
+  @Spy
+  private PlaceSlugIndex slugIndex = new PlaceSlugIndex();
+
+  @Spy
+  private PlaceGeoIndex geoIndex = new PlaceGeoIndex();
+
+  @Spy
+  private PlaceStatsIndex statsIndex = new PlaceStatsIndex();
+
+  @Mock
+  private PlaceTombstoneRepository tombstoneRepository;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
   @Mock
   private Slugify slg;
 
@@ -85,7 +145,7 @@ class PlaceServiceTest {
 
   @Test
   void mustCreatePlaceSuccess() {
-    when(repository.save(place)).thenReturn(place);
+    when(repository.saveAndFlush(any(PlaceModel.class))).thenReturn(place);
 
     var response = assertDoesNotThrow(() -> service.createPlace(placeRequestDTO));
 
@@ -101,10 +161,124 @@ class PlaceServiceTest {
 
   }
 
+  @Test
+  void mustQualifySlugWhenItIsTaken() {
+    when(repository.findTakenSlugs(any(), any())).thenReturn(List.of(SLUG));
+
+    var response = service.createPlace(placeRequestDTO);
+
+    assertEquals("teste-name-teste-city-teste-state", response.slug());
+  }
+
+  @Test
+  void mustPickSlugAgainWhenItIsTakenConcurrently() {
+    var slugViolation = new org.springframework.dao.DataIntegrityViolationException("uk_places_slug",
+        new ConstraintViolationException("duplicate slug", new SQLException(), "uk_places_slug"));
+    when(repository.saveAndFlush(any(PlaceModel.class))).thenThrow(slugViolation).thenReturn(place);
+    when(repository.findTakenSlugs(any(), any())).thenReturn(List.of(), List.of(SLUG));
+
+    var response = service.createPlace(placeRequestDTO);
+
+    assertEquals("teste-name-teste-city-teste-state", response.slug());
+    verify(repository, times(2)).saveAndFlush(any(PlaceModel.class));
+    verify(eventPublisher, times(1)).publishEvent(any(PlaceChangedEvent.class));
+  }
+
+  @Test
+  void mustNumberSlugsPastTheFirstSuffixWindows() {
+    var qualified = "teste-name-teste-city-teste-state";
+    var taken = new ArrayList<String>(List.of(SLUG, qualified));
+    for (int suffix = 2; suffix <= 17; suffix++) {
+      taken.add(qualified + "-" + suffix);
+    }
+    when(repository.findTakenSlugs(any(), any())).thenAnswer(invocation -> {
+      Collection<String> slugs = invocation.getArgument(0);
+      return slugs.stream().filter(taken::contains).toList();
+    });
+
+    var response = service.createPlace(placeRequestDTO);
+
+    assertEquals(qualified + "-18", response.slug());
+    verify(repository, times(4)).findTakenSlugs(any(), any());
+  }
+
+  @Test
+  void mustLookUpBatchSlugsWithOneQuery() {
+    var requests = new ArrayList<PlaceRequestDTO>();
+    for (int i = 0; i < 100; i++) {
+      requests.add(new PlaceRequestDTO("Lugar " + i, STATE, CITY));
+    }
+    requests.add(new PlaceRequestDTO("Lugar 0", STATE, "Outra Cidade"));
+
+    var response = service.createPlaces(requests);
+
+    assertEquals(101, response.created());
+    assertEquals("lugar-0-outra-cidade-teste-state", response.items().get(100).place().slug());
+    verify(repository, times(1)).findTakenSlugs(any(), any());
+    verify(repository, times(0)).findIdBySlug(any());
+  }
+
+  @Test
+  void mustCreatePlacesInBatchReportingEachItem() {
+    keyFilter.add(place);
+    when(repository.findAllByNormalizedNameIn(any())).thenReturn(List.of(place));
+    var newPlace = new PlaceRequestDTO("Novo Lugar", STATE, CITY);
+
+    var response = service.createPlaces(List.of(
+        placeRequestDTO, newPlace, newPlace, new PlaceRequestDTO(" ", STATE, CITY)));
+
+    assertEquals(1, response.created());
+    assertEquals(2, response.conflicts());
+    assertEquals(1, response.invalid());
+    assertEquals(PlaceBatchItemDTO.Status.CONFLICT, response.items().get(0).status());
+    assertEquals(PlaceBatchItemDTO.Status.CREATED, response.items().get(1).status());
+    assertEquals("novo-lugar", response.items().get(1).place().slug());
+    assertEquals(PlaceBatchItemDTO.Status.CONFLICT, response.items().get(2).status());
+    assertEquals(PlaceBatchItemDTO.Status.INVALID, response.items().get(3).status());
+    verify(repository, times(1)).findAllByNormalizedNameIn(any());
+    verify(repository, times(1)).save(any(PlaceModel.class));
+  }
+
+  @Test
+  void mustLookUpBatchDuplicatesBeforeTheKeyFilterIsLoaded() {
+    when(repository.findAllByNormalizedNameIn(any())).thenReturn(List.of(place));
+
+    var response = service.createPlaces(List.of(placeRequestDTO));
+
+    assertEquals(0, response.created());
+    assertEquals(1, response.conflicts());
+    verify(repository, times(0)).save(any(PlaceModel.class));
+  }
+
+  @Test
+  void mustSkipTheBatchLookUpForKeysTheLoadedFilterHasNotSeen() {
+    keyFilter.rebuild(Stream::empty);
+
+    var response = service.createPlaces(List.of(placeRequestDTO));
+
+    assertEquals(1, response.created());
+    verify(repository, times(0)).findAllByNormalizedNameIn(any());
+  }
+
+  @Test
+  void mustLookUpBatchDuplicatesInChunks() {
+    var requests = new ArrayList<PlaceRequestDTO>();
+    for (int i = 0; i < 2500; i++) {
+      var request = new PlaceRequestDTO("Lugar " + i, STATE, CITY);
+      keyFilter.add(new PlaceModel(request.name(), "lugar-" + i, CITY, STATE));
+      requests.add(request);
+    }
+    when(repository.findAllByNormalizedNameIn(any())).thenReturn(List.of());
+
+    service.createPlaces(requests);
+
+    verify(repository, times(3)).findAllByNormalizedNameIn(any());
+  }
+
   @Test
   void mustEditPlaceSuccess() {
     when(repository.findById(RANDOM_UUID)).thenReturn(optionalPlace);
-    when(repository.save(place)).thenReturn(place);
+    when(repository.saveAndFlush(place)).thenReturn(place);
 
     var response = service.editPlace(RANDOM_UUID, placeRequestDTO);
 
@@ -119,12 +293,12 @@ class PlaceServiceTest {
     assertEquals(UPDATED_AT, response.updatedAt());
 
     verify(repository).findById(RANDOM_UUID);
-    verify(repository).save(place);
+    verify(repository).saveAndFlush(place);
   }
 
   @Test
   void mustGetPlaceByIdSuccess() {
-    when(repository.findById(RANDOM_UUID)).thenReturn(optionalPlace);
+    when(repository.findResponseById(RANDOM_UUID)).thenReturn(Optional.of(PlaceMapper.fromPlaceToResponse(place)));
 
     var response = service.getPlaceById(RANDOM_UUID);
 
@@ -138,40 +312,310 @@ class PlaceServiceTest {
     assertEquals(CREATED_AT, response.createdAt());
     assertEquals(UPDATED_AT, response.updatedAt());
 
-    verify(repository).findById(RANDOM_UUID);
+    verify(repository).findResponseById(RANDOM_UUID);
+  }
+
+  @Test
+  void mustGetPlaceBySlugFromIndex() {
+    slugIndex.add(place);
+    when(repository.findResponseById(RANDOM_UUID)).thenReturn(Optional.of(PlaceMapper.fromPlaceToResponse(place)));
+
+    var response = service.getPlaceBySlug(SLUG);
+
+    assertEquals(PlaceMapper.fromPlaceToResponse(place), response);
+    verify(repository, times(0)).findIdBySlug(SLUG);
+  }
+
+  @Test
+  void mustGetPlaceBySlugFromDatabaseWhenNotIndexed() {
+    when(repository.findIdBySlug(SLUG)).thenReturn(Optional.of(RANDOM_UUID));
+    when(repository.findResponseById(RANDOM_UUID)).thenReturn(Optional.of(PlaceMapper.fromPlaceToResponse(place)));
+
+    var response = service.getPlaceBySlug(SLUG);
+
+    assertEquals(PlaceMapper.fromPlaceToResponse(place), response);
+  }
+
+  @Test
+  void mustGetPlaceByIdFromCache() {
+    when(repository.findResponseById(RANDOM_UUID)).thenReturn(Optional.of(PlaceMapper.fromPlaceToResponse(place)));
+
+    service.getPlaceById(RANDOM_UUID);
+    var response = service.getPlaceById(RANDOM_UUID);
+
+    assertEquals(PlaceMapper.fromPlaceToResponse(place), response);
+    verify(repository, times(1)).findResponseById(RANDOM_UUID);
+  }
+
+  @Test
+  void mustEvictCachedPlaceOnEdit() {
+    when(repository.findResponseById(RANDOM_UUID)).thenReturn(Optional.of(PlaceMapper.fromPlaceToResponse(place)));
+    when(repository.findById(RANDOM_UUID)).thenReturn(optionalPlace);
+
+    service.getPlaceById(RANDOM_UUID);
+    service.editPlace(RANDOM_UUID, new PlaceRequestDTO("Other Name", STATE, CITY));
+    service.getPlaceById(RANDOM_UUID);
+
+    verify(placeCache).evict(RANDOM_UUID);
+    verify(eventPublisher).publishEvent(any(PlaceChangedEvent.class));
+    verify(repository, times(2)).findResponseById(RANDOM_UUID);
+    verify(repository, times(1)).findById(RANDOM_UUID);
   }
 
   @Test
   void mustGetAllPlaces() {
-    when(repository.findAll()).thenReturn(List.of(place));
+    when(repository.findAllResponses()).thenReturn(List.of(PlaceMapper.fromPlaceToResponse(place)));
 
     var response = service.getAllPlaces();
 
     assertNotNull(response);
-    assertEquals(repository.findAll().stream().map(PlaceMapper::fromPlaceToResponse).toList(), response);
+    assertEquals(List.of(PlaceMapper.fromPlaceToResponse(place)), response);
+    verify(repository, times(0)).findAll();
+  }
+
+  @Test
+  void mustExportPlaces() {
+    when(repository.streamAll()).thenReturn(Stream.of(place));
+    List<PlaceResponseDTO> exported = new ArrayList<>();
+
+    service.exportPlaces(exported::add);
+
+    assertEquals(List.of(PlaceMapper.fromPlaceToResponse(place)), exported);
+    verify(repository).streamAll();
   }
 
   @Test
   void mustGetPlaceByPage() {
-    when(repository.findAll(PageRequest.of(5, 10)))
-        .thenReturn(new PageImpl<>(List.of(place), PageRequest.of(5, 10), List.of(place).size()));
+    when(repository.findResponses(any(Pageable.class))).thenReturn(new PageImpl<>(
+        List.of(PlaceMapper.fromPlaceToResponse(place)), PageRequest.of(5, 5), 26));
 
     var response = service.getPlacesByPage(5, 10);
 
     assertNotNull(response);
     assertTrue(response instanceof List);
+    assertEquals(List.of(PlaceMapper.fromPlaceToResponse(place)), response);
+  }
+
+  @Test
+  void mustGetPlacesAfterCursor() {
+    when(repository.findFirstByNameAndId(1)).thenReturn(List.of(place));
+    when(repository.findAfterByNameAndId(NAME, RANDOM_UUID, 1)).thenReturn(List.of());
+
+    var firstPage = service.getPlacesAfter(null, 1);
+
+    assertNotNull(firstPage);
+    assertEquals(List.of(PlaceMapper.fromPlaceToResponse(place)), firstPage.places());
+    assertNotNull(firstPage.nextCursor());
+
+    var lastPage = service.getPlacesAfter(firstPage.nextCursor(), 1);
+
+    assertTrue(lastPage.places().isEmpty());
+    assertEquals(null, lastPage.nextCursor());
+
+    verify(repository).findAfterByNameAndId(NAME, RANDOM_UUID, 1);
+  }
+
+  @Test
+  void mustGetPlacesAfterReturningAnInvalidCursorException() {
+    assertThrows(InvalidCursorException.class, () -> service.getPlacesAfter("not-a-cursor", 1));
+  }
+
+  @Test
+  void mustMergeChangedPlacesAndTombstonesSince() {
+    var since = LocalDateTime.now().minusHours(1);
+    var deletedId = UUID.randomUUID();
+    var changed = new PlaceModel(RANDOM_UUID, NAME, SLUG, CITY, STATE, since.minusDays(1), since.plusMinutes(10));
+    when(repository.findChangedAfter(eq(since), any(), any(), any())).thenReturn(List.of(changed));
+    when(tombstoneRepository.findDeletedAfter(eq(since), any(), any(), any()))
+        .thenReturn(List.of(new PlaceTombstone(deletedId, since.plusMinutes(5))));
+
+    var firstPage = service.getChangesSince(since, null, 1);
+
+    assertEquals(1, firstPage.changes().size());
+    assertEquals(deletedId, firstPage.changes().get(0).id());
+    assertTrue(firstPage.changes().get(0).deleted());
+    assertTrue(firstPage.hasMore());
+
+    when(repository.findChangedAfter(eq(since.plusMinutes(5)), eq(deletedId), any(), any()))
+        .thenReturn(List.of(changed));
+    when(tombstoneRepository.findDeletedAfter(eq(since.plusMinutes(5)), eq(deletedId), any(), any()))
+        .thenReturn(List.of());
+
+    var lastPage = service.getChangesSince(null, firstPage.nextCursor(), 1);
+
+    assertEquals(1, lastPage.changes().size());
+    assertEquals(RANDOM_UUID, lastPage.changes().get(0).id());
+    assertEquals(NAME, lastPage.changes().get(0).place().name());
+    assertEquals(false, lastPage.hasMore());
+  }
+
+  @Test
+  void mustRejectSyncOlderThanTombstoneRetention() {
+    assertThrows(SyncExpiredException.class,
+        () -> service.getChangesSince(LocalDateTime.now().minusDays(31), null, null));
+  }
+
+  @Test
+  void mustRejectSyncCursorOlderThanTombstoneRetention() {
+    var since = LocalDateTime.now().minusDays(31);
+    when(repository.findChangedAfter(any(), any(), any(), any())).thenReturn(List.of());
+    when(tombstoneRepository.findDeletedAfter(any(), any(), any(), any())).thenReturn(List.of());
+    var cursor = new PlaceCursor(since + "|" + since, RANDOM_UUID).encode();
+
+    assertThrows(SyncExpiredException.class, () -> service.getChangesSince(null, cursor, null));
+  }
+
+  @Test
+  void mustOnlySyncChangesOlderThanTheSafetyLag() {
+    when(repository.findChangedAfter(any(), any(), any(), any())).thenReturn(List.of());
+    when(tombstoneRepository.findDeletedAfter(any(), any(), any(), any())).thenReturn(List.of());
+
+    var page = service.getChangesSince(null, null, null);
+
+    var until = ArgumentCaptor.forClass(LocalDateTime.class);
+    verify(repository).findChangedAfter(any(), any(), until.capture(), any());
+    assertTrue(until.getValue().isBefore(LocalDateTime.now().minusSeconds(29)));
+    assertEquals(false, page.hasMore());
+    assertDoesNotThrow(() -> service.getChangesSince(null, page.nextCursor(), null));
   }
 
   @Test
   void mustGetPlaceByName() {
-    when(repository.findAllByNameIgnoreCase(NAME)).thenReturn(Optional.of(List.of(place)));
+    when(repository.findResponsesByNormalizedName(eq("teste name"), any(Pageable.class)))
+        .thenReturn(List.of(PlaceMapper.fromPlaceToResponse(place)));
 
-    var response = service.getPlaceByName(NAME);
+    var response = service.getPlaceByName("  TÉSTE  Name ");
 
     assertNotNull(response);
     assertTrue(response instanceof List);
+    assertEquals(List.of(PlaceMapper.fromPlaceToResponse(place)), response);
+
+    verify(repository).findResponsesByNormalizedName(eq("teste name"), any(Pageable.class));
+  }
+
+  @Test
+  void mustGetPlaceByNameReturningAnPlaceNotFoundException() {
+    when(repository.findResponsesByNormalizedName(eq("teste name"), any(Pageable.class)))
+        .thenReturn(List.of());
+
+    assertThrows(PlaceNotFoundException.class, () -> service.getPlaceByName(NAME));
+  }
+
+  @Test
+  void mustSearchPlacesByNormalizedPrefix() {
+    when(repository.searchByNormalizedName("test_", "test\\_", 10)).thenReturn(List.of(place));
+
+    var response = service.searchPlaces("Tést_", null);
+
+    assertEquals(List.of(PlaceMapper.fromPlaceToResponse(place)), response);
+    verify(repository).searchByNormalizedName("test_", "test\\_", 10);
+  }
+
+  @Test
+  void mustSuggestPlacesByPrefixAndCity() {
+    suggestionIndex.add(place);
+    suggestionIndex.add(new PlaceModel(UUID.randomUUID(), "Teste Other", "teste-other", "Other City", STATE,
+        CREATED_AT, UPDATED_AT));
+
+    var response = service.suggestPlaces("tes", "teste city", null, null);
+
+    assertEquals(1, response.size());
+    assertEquals(RANDOM_UUID, response.get(0).id());
+    assertEquals(NAME, response.get(0).name());
+  }
+
+  @Test
+  void mustFindNearestPlacesWithinRadius() {
+    geoIndex.add(located(RANDOM_UUID, "Praca Rui Barbosa", -22.4318, -46.9578));
+    geoIndex.add(located(UUID.randomUUID(), "Av Padre Jaime", -22.4400, -46.9600));
+    geoIndex.add(located(UUID.randomUUID(), "Catedral da Se", -23.5505, -46.6333));
+
+    var response = service.nearbyPlaces(-22.4320, -46.9580, 5000.0, 10);
+
+    assertEquals(2, response.size());
+    assertEquals(RANDOM_UUID, response.get(0).id());
+    assertTrue(response.get(0).distanceMeters() < response.get(1).distanceMeters());
+  }
+
+  @Test
+  void mustLimitNearestPlaces() {
+    for (int i = 0; i < 20; i++) {
+      geoIndex.add(located(UUID.randomUUID(), "Place " + i, -22.43 + i * 0.01, -46.95));
+    }
+
+    var response = service.nearbyPlaces(-22.43, -46.95, 50000.0, 3);
+
+    assertEquals(3, response.size());
+    assertEquals("Place 0", response.get(0).name());
+    assertEquals("Place 2", response.get(2).name());
+  }
+
+  @Test
+  void mustFindNearestPlacesAcrossThePoleOnlyOnce() {
+    geoIndex.add(located(RANDOM_UUID, "Estacao Norte", 89.95, 0.0));
+    geoIndex.add(located(UUID.randomUUID(), "Estacao Oposta", 89.95, 179.9));
+    geoIndex.add(located(UUID.randomUUID(), "Longe", 89.0, 90.0));
+
+    var response = service.nearbyPlaces(89.95, 90.0, 50000.0, 10);
 
-    verify(repository).findAllByNameIgnoreCase(NAME);
+    assertEquals(2, response.size());
+    assertEquals(2, response.stream().map(PlaceNearbyDTO::id).distinct().count());
+  }
+
+  @Test
+  void mustFindNearestPlacesAcrossTheAntimeridian() {
+    geoIndex.add(located(RANDOM_UUID, "Taveuni", -16.80, 179.99));
+    geoIndex.add(located(UUID.randomUUID(), "Rabi", -16.80, -179.95));
+    geoIndex.add(located(UUID.randomUUID(), "Suva", -18.14, 178.44));
+
+    var response = service.nearbyPlaces(-16.80, -179.99, 10000.0, 10);
+
+    assertEquals(2, response.size());
+    assertEquals(RANDOM_UUID, response.get(0).id());
+  }
+
+  @Test
+  void mustCreatePlaceWithCoordinates() {
+    var response = service.createPlace(new PlaceRequestDTO(NAME, STATE, CITY, -22.43, -46.95));
+
+    assertEquals(-22.43, response.latitude());
+    assertEquals(-46.95, response.longitude());
+  }
+
+  @Test
+  void mustCountPlacesPerStateAndCity() {
+    statsIndex.add(place);
+    statsIndex.add(new PlaceModel(UUID.randomUUID(), "Other", "other", CITY, STATE, CREATED_AT, UPDATED_AT));
+    statsIndex.add(new PlaceModel(UUID.randomUUID(), "Other", "other-2", "Other City", "Other State", CREATED_AT,
+        UPDATED_AT));
+    statsIndex.remove(place);
+
+    var stats = service.getStats();
+    var stateStats = service.getStateStats("teste state");
+
+    assertEquals(2, stats.total());
+    assertEquals(1L, stats.states().get(STATE));
+    assertEquals(1L, stats.states().get("Other State"));
+    assertEquals(STATE, stateStats.state());
+    assertEquals(1, stateStats.total());
+    assertEquals(1L, stateStats.cities().get(CITY));
+  }
+
+  @Test
+  void mustReplaceCountsWithARebuild() {
+    statsIndex.add(place);
+
+    var rebuild = statsIndex.startRebuild();
+    for (int i = 0; i < 3; i++) {
+      rebuild.add(new PlaceModel(UUID.randomUUID(), "Other", "other-" + i, "Other", STATE, CREATED_AT, UPDATED_AT));
+    }
+    rebuild.add(place);
+    rebuild.add(place);
+    rebuild.publish();
+
+    assertEquals(3, statsIndex.lastDrift());
+    assertEquals(4, service.getStats().total());
+    assertEquals(3L, service.getStateStats(STATE).cities().get("Other"));
   }
 
   @Test
@@ -188,6 +632,10 @@ class PlaceServiceTest {
 
     verify(repository).findById(RANDOM_UUID);
     verify(repository).delete(place);
+    var tombstone = ArgumentCaptor.forClass(PlaceTombstone.class);
+    verify(tombstoneRepository).save(tombstone.capture());
+    assertEquals(RANDOM_UUID, tombstone.getValue().getId());
+    assertTrue(tombstone.getValue().isNew());
   }
 
   @Test
@@ -212,6 +660,30 @@ class PlaceServiceTest {
 
   // * Tests with error/throw
 
+  @Test
+  void mustGetNearbyPlacesReturningAnInvalidCoordinatesException() {
+    assertThrows(InvalidCoordinatesException.class, () -> service.nearbyPlaces(91.0, 0.0, null, null));
+  }
+
+  @Test
+  void mustGetStateStatsReturningAnPlaceNotFoundException() {
+    assertThrows(PlaceNotFoundException.class, () -> service.getStateStats(STATE));
+  }
+
+  @Test
+  void mustGetPlaceBySlugReturningAnPlaceNotFoundException() {
+    assertThrows(PlaceNotFoundException.class, () -> service.getPlaceBySlug(SLUG));
+  }
+
+  @Test
+  void mustGetPlaceByIdReturningAnPlaceNotFoundException() {
+    when(repository.findResponseById(RANDOM_UUID)).thenReturn(Optional.empty());
+
+    var exception = assertThrows(PlaceNotFoundException.class, () -> service.getPlaceById(RANDOM_UUID));
+
+    assertEquals(PLACE_NOT_FOUND, exception.getMessage());
+  }
+
   @Test
   void mustFindByIdReturningAnPlaceNotFoundException() {
     when(repository.findById(RANDOM_UUID)).thenThrow(new PlaceNotFoundException(PLACE_NOT_FOUND));
@@ -226,46 +698,36 @@ class PlaceServiceTest {
   }
 
   @Test
-  void mustFindByNameAndCityAndStateIgnoringCase() {
-    when(repository.findByNameAndCityAndStateIgnoreCase(NAME, CITY, STATE))
-        .thenThrow(
-            new DataIntegrityViolationException(CITY_IN_THIS_STATE_ALREADY_INCLUDED_IN_OUR_DATABASE));
-
-    try {
-      service.findByNameAndCityAndStateIgnoreCase(placeRequestDTO);
-    } catch (Exception e) {
-      assertEquals(DataIntegrityViolationException.class, e.getClass());
-      assertEquals(CITY_IN_THIS_STATE_ALREADY_INCLUDED_IN_OUR_DATABASE, e.getMessage());
-    }
+  void mustKeepKeysAddedWhileTheFilterIsRebuilt() {
+    keyFilter.rebuild(() -> {
+      keyFilter.add(place);
+      return Stream.empty();
+    });
 
+    assertTrue(keyFilter.mightContain(PlaceModel.key(NAME, CITY, STATE)));
   }
 
   @Test
-  void mustCreateThenReturnAnDataIntegrityViolationException() {
-    when(repository.findByNameAndCityAndStateIgnoreCase(NAME, CITY, STATE))
-        .thenThrow(
-            new DataIntegrityViolationException(CITY_IN_THIS_STATE_ALREADY_INCLUDED_IN_OUR_DATABASE));
+  void mustCreateThenReturnAnDuplicatePlaceException() {
+    when(repository.saveAndFlush(any(PlaceModel.class)))
+        .thenThrow(new org.springframework.dao.DataIntegrityViolationException("uk_places_key"));
 
-    try {
-      service.createPlace(placeRequestDTO);
-    } catch (Exception e) {
-      assertEquals(DataIntegrityViolationException.class, e.getClass());
-      assertEquals(CITY_IN_THIS_STATE_ALREADY_INCLUDED_IN_OUR_DATABASE, e.getMessage());
-    }
+    var exception = assertThrows(DuplicatePlaceException.class, () -> service.createPlace(placeRequestDTO));
+
+    assertEquals(CITY_IN_THIS_STATE_ALREADY_INCLUDED_IN_OUR_DATABASE, exception.getMessage());
+    verify(eventPublisher, times(0)).publishEvent(any(PlaceChangedEvent.class));
   }
 
   @Test
-  void mustEditThenReturnAnDataIntegrityViolationException() {
-    when(repository.findByNameAndCityAndStateIgnoreCase(NAME, CITY, STATE))
-        .thenThrow(
-            new DataIntegrityViolationException(CITY_IN_THIS_STATE_ALREADY_INCLUDED_IN_OUR_DATABASE));
+  void mustEditThenReturnAnDuplicatePlaceException() {
+    when(repository.findById(RANDOM_UUID)).thenReturn(optionalPlace);
+    when(repository.saveAndFlush(place))
+        .thenThrow(new org.springframework.dao.DataIntegrityViolationException("uk_places_key"));
 
-    try {
-      service.editPlace(RANDOM_UUID, placeRequestDTO);
-    } catch (Exception e) {
-      assertEquals(DataIntegrityViolationException.class, e.getClass());
-      assertEquals(CITY_IN_THIS_STATE_ALREADY_INCLUDED_IN_OUR_DATABASE, e.getMessage());
-    }
+    var exception = assertThrows(DuplicatePlaceException.class,
+        () -> service.editPlace(RANDOM_UUID, placeRequestDTO));
+
+    assertEquals(CITY_IN_THIS_STATE_ALREADY_INCLUDED_IN_OUR_DATABASE, exception.getMessage());
   }
 
   void mustDeleteWithPlaceNotFoundException() {
@@ -279,4 +741,11 @@ class PlaceServiceTest {
     }
   }
 
+  private static PlaceModel located(UUID id, String name, double latitude, double longitude) {
+    var place = new PlaceModel(id, name, name.toLowerCase(), CITY, STATE, CREATED_AT, UPDATED_AT);
+    place.setLatitude(latitude);
+    place.setLongitude(longitude);
+    return place;
+  }
+
 }
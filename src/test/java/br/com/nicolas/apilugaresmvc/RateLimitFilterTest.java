@@ -0,0 +1,112 @@
+package br.com.nicolas.apilugaresmvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.nicolas.apilugaresmvc.domain.entities.UserModel;
+import br.com.nicolas.apilugaresmvc.domain.entities.enums.UserRole;
+import br.com.nicolas.apilugaresmvc.security.RateLimitFilter;
+import br.com.nicolas.apilugaresmvc.security.TokenService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+
+class RateLimitFilterTest {
+
+  private static final String CLIENT_IP = "10.0.0.1";
+
+  private RateLimitFilter filter;
+  private TokenService tokenService;
+
+  @BeforeEach
+  void setUp() {
+    MockEnvironment environment = new MockEnvironment()
+        .withProperty("api.rate-limit.login.capacity", "1")
+        .withProperty("api.rate-limit.login.refill-per-second", "0.5")
+        .withProperty("api.rate-limit.reads.capacity", "2")
+        .withProperty("api.rate-limit.reads.refill-per-second", "0.5");
+    tokenService = new TokenService("secret", 100, new SimpleMeterRegistry());
+    filter = new RateLimitFilter(environment, new ObjectMapper().findAndRegisterModules(), new SimpleMeterRegistry(),
+        tokenService);
+  }
+
+  @Test
+  void mustRejectLoginsOverTheLimitWithRetryAfter() throws ServletException, IOException {
+    assertEquals(200, perform("POST", "/users/login", CLIENT_IP, null).getStatus());
+
+    var response = perform("POST", "/users/login", CLIENT_IP, null);
+
+    assertEquals(429, response.getStatus());
+    assertEquals("2", response.getHeader("Retry-After"));
+    assertNotNull(response.getContentAsString());
+  }
+
+  @Test
+  void mustKeepBucketsPerClient() throws ServletException, IOException {
+    perform("POST", "/users/login", CLIENT_IP, null);
+
+    assertEquals(200, perform("POST", "/users/login", "10.0.0.2", null).getStatus());
+    assertEquals(200, perform("GET", "/places/name", CLIENT_IP, null).getStatus());
+  }
+
+  @Test
+  void mustLimitUsersAcrossAddresses() throws ServletException, IOException {
+    String token = token("user");
+    perform("GET", "/places/name", "10.0.0.3", token);
+    perform("GET", "/places/name", "10.0.0.4", token);
+
+    assertEquals(429, perform("GET", "/places/name", "10.0.0.5", token).getStatus());
+    assertEquals(200, perform("GET", "/places/name", "10.0.0.5", token("other-user")).getStatus());
+  }
+
+  @Test
+  void mustNotKeepBucketsForInvalidTokens() throws ServletException, IOException {
+    for (int i = 0; i < 5; i++) {
+      assertEquals(200, perform("GET", "/places/name", "10.0.1." + i, "not-a-token").getStatus());
+    }
+  }
+
+  @Test
+  void mustNotChargeTheAddressWhenTheUserIsLimited() throws ServletException, IOException {
+    String token = token("user");
+    perform("GET", "/places/name", "10.0.0.6", token);
+    perform("GET", "/places/name", "10.0.0.7", token);
+
+    assertEquals(429, perform("GET", "/places/name", CLIENT_IP, token).getStatus());
+    assertEquals(200, perform("GET", "/places/name", CLIENT_IP, null).getStatus());
+    assertEquals(200, perform("GET", "/places/name", CLIENT_IP, null).getStatus());
+  }
+
+  @Test
+  void mustNotLimitActuator() throws ServletException, IOException {
+    for (int i = 0; i < 5; i++) {
+      assertEquals(200, perform("GET", "/actuator/health", CLIENT_IP, null).getStatus());
+    }
+  }
+
+  private String token(String username) {
+    return tokenService.generateToken(new UserModel(username, "password", UserRole.USER));
+  }
+
+  private MockHttpServletResponse perform(String method, String uri, String remoteAddr, String token)
+      throws ServletException, IOException {
+    MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+    request.setRemoteAddr(remoteAddr);
+    if (token != null) {
+      request.addHeader("Authorization", "Bearer " + token);
+    }
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    filter.doFilter(request, response, new MockFilterChain());
+    return response;
+  }
+}
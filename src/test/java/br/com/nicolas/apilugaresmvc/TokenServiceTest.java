@@ -0,0 +1,51 @@
+package br.com.nicolas.apilugaresmvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import br.com.nicolas.apilugaresmvc.domain.entities.UserModel;
+import br.com.nicolas.apilugaresmvc.domain.entities.enums.UserRole;
+import br.com.nicolas.apilugaresmvc.security.TokenService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TokenServiceTest {
+
+  private static final String SECRET = "test-secret";
+
+  private static final String USERNAME = "Teste User";
+
+  private TokenService tokenService;
+
+  private UserModel user;
+
+  @BeforeEach
+  void setUp() {
+    tokenService = new TokenService(SECRET, 100, new SimpleMeterRegistry());
+    user = new UserModel(USERNAME, "password", UserRole.USER);
+  }
+
+  @Test
+  void mustValidateGeneratedToken() {
+    String token = tokenService.generateToken(user);
+
+    assertEquals(USERNAME, tokenService.validateToken(token));
+    assertEquals(USERNAME, tokenService.validateToken(token));
+  }
+
+  @Test
+  void mustRejectTamperedToken() {
+    String token = tokenService.generateToken(user);
+    tokenService.validateToken(token);
+
+    assertEquals("", tokenService.validateToken(token + "x"));
+  }
+
+  @Test
+  void mustRejectTokenSignedWithAnotherSecret() {
+    String token = new TokenService("another-secret", 100, new SimpleMeterRegistry()).generateToken(user);
+
+    assertEquals("", tokenService.validateToken(token));
+  }
+}